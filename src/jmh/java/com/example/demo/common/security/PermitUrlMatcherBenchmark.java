@@ -0,0 +1,95 @@
+package com.example.demo.common.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.AntPathMatcher;
+
+import com.example.demo.common.property.SecurityProperties;
+
+/**
+ * 허용 URL 판별 비용 비교 (규칙 ruleCount개, 허용/비허용 요청을 번갈아 판별)
+ * legacy: 요청마다 "METHOD:pattern"을 분리하고 모든 규칙을 AntPathMatcher로 검사
+ * trie: 메소드별 경로 조각 트라이로 컴파일한 PermitUrlMatcher
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PermitUrlMatcherBenchmark {
+
+	private static final String[] RESOURCES = {"articles", "quiz", "users", "comments", "tags", "categories",
+		"reports", "notices", "events", "files"};
+
+	private static final String[] REQUEST_URIS = {
+		"/api/articles/42/detail",
+		"/api/quiz/7/stats",
+		"/swagger-ui/index.html",
+		"/api/files/3/download",
+		"/api/users/9/settings",
+		"/api/admin/articles/1",
+		"/static/js/app.js",
+		"/api/unknown/path/segment"};
+
+	@Param({"60"})
+	private int ruleCount;
+
+	private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+	private String[] permitUrls;
+	private PermitUrlMatcher permitUrlMatcher;
+	private int cursor;
+
+	@Setup
+	public void setUp() {
+		List<String> rules = new ArrayList<>();
+		for (int i = 0; rules.size() < ruleCount; i++) {
+			String resource = RESOURCES[i % RESOURCES.length] + (i < RESOURCES.length ? "" : i);
+			rules.add("GET:/api/" + resource);
+			rules.add("GET:/api/" + resource + "/*/detail");
+			rules.add("GET:/api/" + resource + "/*/stats");
+			rules.add("POST:/api/" + resource + "/search");
+			rules.add("GET:/public/" + resource + "/**");
+		}
+		rules.add("GET:/swagger-ui/**");
+		rules.add("GET:/v3/api-docs/**");
+		rules.add("GET:/static/**/*.js");
+		permitUrls = rules.toArray(String[]::new);
+
+		SecurityProperties securityProperties = new SecurityProperties();
+		securityProperties.setPermitUrls(permitUrls);
+		permitUrlMatcher = new PermitUrlMatcher(securityProperties);
+		permitUrlMatcher.compilePermitUrls();
+	}
+
+	@Benchmark
+	public boolean legacyLinearScan() {
+		String uri = nextUri();
+		for (String permitUrl : permitUrls) {
+			String[] parts = permitUrl.split(":", 2);
+			if ("GET".equalsIgnoreCase(parts[0]) && antPathMatcher.match(parts[1], uri)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Benchmark
+	public boolean trie() {
+		return permitUrlMatcher.matches("GET", nextUri());
+	}
+
+	private String nextUri() {
+		String uri = REQUEST_URIS[cursor];
+		cursor = (cursor + 1) % REQUEST_URIS.length;
+		return uri;
+	}
+}
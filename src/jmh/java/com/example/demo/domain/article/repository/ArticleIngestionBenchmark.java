@@ -0,0 +1,147 @@
+package com.example.demo.domain.article.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import com.example.demo.common.jdbc.DatabaseDialect;
+import com.example.demo.domain.article.dto.request.ArticleUploadRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 기사 업로드(중복 확인 + 저장) 비용 비교. H2 기본 모드와 MySQL 호환 모드에서 각각 측정합니다.
+ * 요청 articleCount건 중 절반은 이미 저장된 기사입니다.
+ * legacy: 기사마다 존재 여부 조회 + 단건 INSERT
+ * batch: IN 절로 한 번에 존재 여부 조회 + ArticleJdbcRepository.batchInsert
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ArticleIngestionBenchmark {
+
+	private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+	private static final String CREATE_TABLE_SQL = "CREATE TABLE article ("
+		+ "id BIGINT AUTO_INCREMENT PRIMARY KEY, article_id VARCHAR(255) NOT NULL UNIQUE, "
+		+ "category_id VARCHAR(50) NOT NULL, image_url VARCHAR(1000), title VARCHAR(500) NOT NULL, "
+		+ "description CLOB, source VARCHAR(100), date VARCHAR(20), content_hash VARCHAR(64), "
+		+ "created_at TIMESTAMP, updated_at TIMESTAMP)";
+
+	private static final String LEGACY_EXISTS_SQL = "SELECT COUNT(*) FROM article WHERE article_id = ?";
+	private static final String LEGACY_INSERT_SQL = "INSERT INTO article "
+		+ "(article_id, category_id, image_url, title, description, source, date, created_at, updated_at) "
+		+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String FIND_EXISTING_SQL = "SELECT article_id FROM article WHERE article_id IN (:articleIds)";
+
+	@Param({"h2", "mysql"})
+	private String mode;
+
+	@Param({"1000"})
+	private int articleCount;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private SingleConnectionDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+	private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private ArticleJdbcRepository articleJdbcRepository;
+	private List<ArticleUploadRequest> requests;
+
+	@Setup(Level.Trial)
+	public void setUpDatabase() {
+		String url = "jdbc:h2:mem:ingestion-" + mode + ";DB_CLOSE_DELAY=-1" + ("mysql".equals(mode) ? ";MODE=MySQL" : "");
+		dataSource = new SingleConnectionDataSource(url, "sa", "", true);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+		articleJdbcRepository = new ArticleJdbcRepository(jdbcTemplate, new DatabaseDialect(jdbcTemplate));
+		jdbcTemplate.execute(CREATE_TABLE_SQL);
+
+		requests = new ArrayList<>(articleCount);
+		for (int i = 0; i < articleCount; i++) {
+			requests.add(request("article-" + i));
+		}
+	}
+
+	// 매 호출 전에 요청의 절반(짝수 번째)만 저장된 상태로 되돌립니다.
+	@Setup(Level.Invocation)
+	public void resetArticles() {
+		jdbcTemplate.execute("DELETE FROM article");
+		List<ArticleUploadRequest> existing = new ArrayList<>();
+		for (int i = 0; i < requests.size(); i += 2) {
+			existing.add(requests.get(i));
+		}
+		articleJdbcRepository.batchInsert(existing);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		jdbcTemplate.execute("DROP TABLE article");
+		dataSource.destroy();
+	}
+
+	@Benchmark
+	public int legacyPerRow() {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		int inserted = 0;
+		for (ArticleUploadRequest request : requests) {
+			Integer count = jdbcTemplate.queryForObject(LEGACY_EXISTS_SQL, Integer.class, request.getArticleId());
+			if (count != null && count > 0) {
+				continue;
+			}
+			jdbcTemplate.update(LEGACY_INSERT_SQL, request.getArticleId(), request.getCategoryId(),
+				request.getImageUrl(), request.getTitle(), request.getDescription(), request.getSource(),
+				request.getDate(), now, now);
+			inserted++;
+		}
+		return inserted;
+	}
+
+	@Benchmark
+	public int batch() {
+		Set<String> existingIds = new HashSet<>();
+		for (int from = 0; from < requests.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+			List<String> articleIds = requests.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, requests.size()))
+				.stream()
+				.map(ArticleUploadRequest::getArticleId)
+				.toList();
+			existingIds.addAll(namedParameterJdbcTemplate.queryForList(FIND_EXISTING_SQL,
+				Collections.singletonMap("articleIds", articleIds), String.class));
+		}
+		List<ArticleUploadRequest> newArticles = requests.stream()
+			.filter(request -> !existingIds.contains(request.getArticleId()))
+			.toList();
+		articleJdbcRepository.batchInsert(newArticles);
+		return newArticles.size();
+	}
+
+	private ArticleUploadRequest request(String articleId) {
+		return objectMapper.convertValue(Map.of(
+			"articleId", articleId,
+			"categoryId", "economy",
+			"imageUrl", "https://example.com/images/" + articleId + ".jpg",
+			"title", "Benchmark article " + articleId,
+			"description", "본문 ".repeat(200),
+			"source", "example",
+			"date", "2025-01-01"), ArticleUploadRequest.class);
+	}
+}
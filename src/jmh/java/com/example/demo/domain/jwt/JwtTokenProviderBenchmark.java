@@ -0,0 +1,81 @@
+package com.example.demo.domain.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.demo.common.property.TokenProperty;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * 액세스 토큰 검증 비용 비교
+ * legacy: 요청마다 키 유도 + 파서 생성 + 파싱/서명 검증을 두 번 (타입 확인, 사용자 조회)
+ * verify: 공유 키/파서로 한 번만 파싱하는 JwtTokenProvider.verifyAccessToken
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+	private static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+	private JwtTokenProvider jwtTokenProvider;
+	private String accessToken;
+
+	@Setup
+	public void setUp() {
+		TokenProperty tokenProperty = new TokenProperty();
+		tokenProperty.setSecretKey(SECRET_KEY);
+		tokenProperty.setAccessExpiration(TimeUnit.HOURS.toMillis(1));
+		tokenProperty.setVerifiedCacheEnabled(false);
+		jwtTokenProvider = new JwtTokenProvider(tokenProperty, null, new VerifiedTokenCache(tokenProperty),
+			new TokenBlacklist(tokenProperty));
+
+		Claims claims = Jwts.claims();
+		claims.put("id", 1L);
+		claims.put("email", "user@example.com");
+		claims.put("type", "accessToken");
+		long now = System.currentTimeMillis();
+		accessToken = Jwts.builder()
+			.setClaims(claims)
+			.setIssuedAt(new Date(now))
+			.setExpiration(new Date(now + TimeUnit.HOURS.toMillis(1)))
+			.signWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+			.compact();
+	}
+
+	@Benchmark
+	public Object legacyDoubleParse() {
+		String type = legacyParse(accessToken).get("type", String.class);
+		if (!"accessToken".equals(type)) {
+			throw new IllegalStateException(type);
+		}
+		return legacyParse(accessToken).get("id", Long.class);
+	}
+
+	@Benchmark
+	public VerifiedToken verifyOnce() {
+		return jwtTokenProvider.verifyAccessToken(accessToken);
+	}
+
+	// 변경 전 getType/getAuthenticatedUser가 각각 하던 처리
+	private Claims legacyParse(String token) {
+		return Jwts.parserBuilder()
+			.setSigningKey(Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8)))
+			.build()
+			.parseClaimsJws(token)
+			.getBody();
+	}
+}
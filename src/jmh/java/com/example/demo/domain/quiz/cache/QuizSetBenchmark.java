@@ -0,0 +1,164 @@
+package com.example.demo.domain.quiz.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import com.example.demo.domain.quiz.dto.request.QuizAnswerDto;
+import com.example.demo.domain.quiz.dto.request.QuizQuestionUploadDto;
+import com.example.demo.domain.quiz.dto.request.QuizUploadRequest;
+import com.example.demo.domain.quiz.dto.response.QuizQuestionDto;
+import com.example.demo.domain.quiz.entity.QuizQuestion;
+import com.example.demo.domain.quiz.entity.QuizQuestionType;
+import com.example.demo.domain.quiz.grading.GradedSubmission;
+import com.example.demo.domain.quiz.grading.QuizGrader;
+import com.example.demo.domain.quiz.repository.QuizQuestionJdbcRepository;
+import com.example.demo.domain.quiz.util.QuizOptionCodec;
+
+/**
+ * 4지선다 퀴즈 조회/채점 지연 시간 (H2 메모리 DB, 기사당 questionCount 문제)
+ * fetchEncodedColumn: 기사당 쿼리 한 번으로 인코딩된 보기 컬럼을 읽어 스냅샷을 만들고 응답 시 보기를 풀어냄
+ * fetchOptionTable: 비교용으로 보기를 별도 테이블에 두고 JOIN 한 번으로 읽어 문제별로 묶음
+ * grade: 캐시된 스냅샷으로 객관식 답안 채점
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuizSetBenchmark {
+
+	private static final int ARTICLE_COUNT = 100;
+	private static final int OPTION_COUNT = 4;
+
+	private static final String CREATE_QUESTION_TABLE_SQL = "CREATE TABLE quiz_question ("
+		+ "id BIGINT AUTO_INCREMENT PRIMARY KEY, article_id BIGINT NOT NULL, question CLOB NOT NULL, "
+		+ "quiz_type VARCHAR(20), correct_answer BOOLEAN, encoded_options CLOB, correct_option_index INT, "
+		+ "created_at TIMESTAMP, updated_at TIMESTAMP)";
+	private static final String CREATE_QUESTION_INDEX_SQL =
+		"CREATE INDEX idx_quiz_question_article ON quiz_question (article_id)";
+	private static final String CREATE_OPTION_TABLE_SQL = "CREATE TABLE quiz_option ("
+		+ "question_id BIGINT NOT NULL, option_index INT NOT NULL, content VARCHAR(500) NOT NULL, "
+		+ "PRIMARY KEY (question_id, option_index))";
+	private static final String COPY_OPTIONS_SQL = "INSERT INTO quiz_option (question_id, option_index, content) "
+		+ "VALUES (?, ?, ?)";
+
+	private static final String FIND_QUESTIONS_SQL = "SELECT id, question, quiz_type, correct_answer, encoded_options, "
+		+ "correct_option_index FROM quiz_question WHERE article_id = ?";
+	private static final String FIND_QUESTIONS_WITH_OPTIONS_SQL = "SELECT q.id, q.question, o.content "
+		+ "FROM quiz_question q JOIN quiz_option o ON o.question_id = q.id "
+		+ "WHERE q.article_id = ? ORDER BY q.id, o.option_index";
+
+	@Param({"10"})
+	private int questionCount;
+
+	private SingleConnectionDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+	private QuizSetSnapshot answerKey;
+	private List<QuizAnswerDto> answers;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		dataSource = new SingleConnectionDataSource("jdbc:h2:mem:quiz-set;DB_CLOSE_DELAY=-1", "sa", "", true);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute(CREATE_QUESTION_TABLE_SQL);
+		jdbcTemplate.execute(CREATE_QUESTION_INDEX_SQL);
+		jdbcTemplate.execute(CREATE_OPTION_TABLE_SQL);
+
+		Random random = new Random(42);
+		List<QuizUploadRequest> uploads = new ArrayList<>(ARTICLE_COUNT);
+		for (long articleId = 1; articleId <= ARTICLE_COUNT; articleId++) {
+			List<QuizQuestionUploadDto> questions = new ArrayList<>(questionCount);
+			for (int i = 0; i < questionCount; i++) {
+				List<String> options = new ArrayList<>(OPTION_COUNT);
+				for (int option = 0; option < OPTION_COUNT; option++) {
+					options.add("기사 " + articleId + " 문제 " + i + "의 보기 " + option);
+				}
+				questions.add(QuizQuestionUploadDto.multipleChoice(null, "기사 " + articleId + "의 " + i + "번 문제",
+					options, random.nextInt(OPTION_COUNT)));
+			}
+			uploads.add(new QuizUploadRequest(articleId, questions));
+		}
+		new QuizQuestionJdbcRepository(jdbcTemplate).batchInsert(uploads);
+
+		// 같은 보기를 별도 테이블에도 넣어 두 저장 방식을 같은 데이터로 비교합니다.
+		List<Object[]> optionRows = new ArrayList<>();
+		jdbcTemplate.query("SELECT id, encoded_options FROM quiz_question", rs -> {
+			List<String> options = QuizOptionCodec.decode(rs.getString(2));
+			for (int index = 0; index < options.size(); index++) {
+				optionRows.add(new Object[] {rs.getLong(1), index, options.get(index)});
+			}
+		});
+		jdbcTemplate.batchUpdate(COPY_OPTIONS_SQL, optionRows);
+
+		answerKey = loadSnapshot(1L);
+		answers = new ArrayList<>(answerKey.size());
+		for (int index = 0; index < answerKey.size(); index++) {
+			answers.add(new QuizAnswerDto(answerKey.questionIdAt(index), null, random.nextInt(OPTION_COUNT)));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		jdbcTemplate.execute("DROP ALL OBJECTS");
+		dataSource.destroy();
+	}
+
+	@Benchmark
+	public List<QuizQuestionDto> fetchEncodedColumn() {
+		return loadSnapshot(nextArticleId()).toQuestionDtos();
+	}
+
+	@Benchmark
+	public List<QuizQuestionDto> fetchOptionTable() {
+		Map<Long, String> questions = new LinkedHashMap<>();
+		Map<Long, List<String>> optionsByQuestionId = new LinkedHashMap<>();
+		jdbcTemplate.query(FIND_QUESTIONS_WITH_OPTIONS_SQL, rs -> {
+			long questionId = rs.getLong(1);
+			questions.putIfAbsent(questionId, rs.getString(2));
+			optionsByQuestionId.computeIfAbsent(questionId, key -> new ArrayList<>(OPTION_COUNT)).add(rs.getString(3));
+		}, nextArticleId());
+
+		List<QuizQuestionDto> questionDtos = new ArrayList<>(questions.size());
+		questions.forEach((questionId, question) -> questionDtos.add(
+			QuizQuestionDto.multipleChoice(questionId, question, optionsByQuestionId.get(questionId))));
+		return questionDtos;
+	}
+
+	@Benchmark
+	public GradedSubmission grade() {
+		return QuizGrader.grade(answerKey, answers);
+	}
+
+	// QuizSetCache 적재와 같은 처리: 기사당 쿼리 한 번 + 스냅샷 생성 (보기는 인코딩된 채로 보관)
+	private QuizSetSnapshot loadSnapshot(long articleId) {
+		return QuizSetSnapshot.from(jdbcTemplate.query(FIND_QUESTIONS_SQL, (rs, rowNum) -> QuizQuestion.builder()
+			.id(rs.getLong("id"))
+			.question(rs.getString("question"))
+			.quizType(QuizQuestionType.valueOf(rs.getString("quiz_type")))
+			.correctAnswer(rs.getObject("correct_answer", Boolean.class))
+			.encodedOptions(rs.getString("encoded_options"))
+			.correctOptionIndex(rs.getObject("correct_option_index", Integer.class))
+			.build(), articleId));
+	}
+
+	private long nextArticleId() {
+		cursor = cursor % ARTICLE_COUNT + 1;
+		return cursor;
+	}
+}
@@ -0,0 +1,96 @@
+package com.example.demo.domain.quiz.grading;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.demo.domain.quiz.cache.QuizSetSnapshot;
+import com.example.demo.domain.quiz.dto.request.QuizAnswerDto;
+import com.example.demo.domain.quiz.dto.response.QuizResultDto;
+import com.example.demo.domain.quiz.entity.QuizQuestion;
+import com.example.demo.domain.quiz.entity.QuizQuestionType;
+
+/**
+ * 답안 채점 처리량 (호출 한 번에 SUBMISSION_COUNT건 채점, 결과는 초당 채점 건수)
+ * legacy: 요청마다 Map<Long, Boolean> 정답표를 만들고 답안마다 QuizResultDto를 생성
+ * grader: 미리 만든 정답 키(정렬된 id 배열 + BitSet)로 QuizGrader.grade
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class QuizGraderBenchmark {
+
+	private static final int SUBMISSION_COUNT = 10_000;
+
+	@Param({"10"})
+	private int questionCount;
+
+	private List<QuizQuestion> quizQuestions;
+	private QuizSetSnapshot answerKey;
+	private List<List<QuizAnswerDto>> submissions;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		quizQuestions = new ArrayList<>(questionCount);
+		for (long id = 1; id <= questionCount; id++) {
+			quizQuestions.add(QuizQuestion.builder()
+				.id(id)
+				.quizType(QuizQuestionType.OX)
+				.question("question " + id)
+				.correctAnswer(random.nextBoolean())
+				.build());
+		}
+		answerKey = QuizSetSnapshot.from(quizQuestions);
+
+		submissions = new ArrayList<>(SUBMISSION_COUNT);
+		for (int i = 0; i < SUBMISSION_COUNT; i++) {
+			List<QuizAnswerDto> answers = new ArrayList<>(questionCount);
+			for (long id = 1; id <= questionCount; id++) {
+				answers.add(new QuizAnswerDto(id, random.nextBoolean(), null));
+			}
+			submissions.add(answers);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SUBMISSION_COUNT)
+	public void legacyMapLookup(Blackhole blackhole) {
+		for (List<QuizAnswerDto> answers : submissions) {
+			Map<Long, Boolean> correctAnswers = quizQuestions.stream()
+				.collect(Collectors.toMap(QuizQuestion::getId, QuizQuestion::getCorrectAnswer));
+			List<QuizResultDto> results = answers.stream()
+				.map(answer -> QuizResultDto.of(answer.id(), correctAnswers.get(answer.id()).equals(answer.answer())))
+				.collect(Collectors.toList());
+			blackhole.consume(results.stream().filter(QuizResultDto::correctAnswer).count());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SUBMISSION_COUNT)
+	public void grader(Blackhole blackhole) {
+		for (List<QuizAnswerDto> answers : submissions) {
+			blackhole.consume(QuizGrader.grade(answerKey, answers).correctCount());
+		}
+	}
+
+	// 정답 키 생성 비용은 캐시 적재 시 한 번이지만 참고용으로 함께 측정
+	@Benchmark
+	public QuizSetSnapshot buildAnswerKey() {
+		return QuizSetSnapshot.from(quizQuestions);
+	}
+}
@@ -0,0 +1,16 @@
+package com.example.demo.common.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CacheStats(
+	long hitCount,
+	long missCount,
+	long evictionCount,
+	int size
+) {
+	@JsonProperty("hitRate")
+	public double hitRate() {
+		long requestCount = hitCount + missCount;
+		return requestCount == 0 ? 0.0 : (double)hitCount / requestCount;
+	}
+}
@@ -0,0 +1,92 @@
+package com.example.demo.common.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최대 크기가 제한된 LRU 캐시
+ * 크기를 초과하면 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * expireAfterWriteMillis를 지정하면 저장 후 그 시간이 지난 항목은 조회 시 제거됩니다.
+ */
+public class LruCache<K, V> {
+
+	private static final int INITIAL_CAPACITY = 16;
+	private static final float LOAD_FACTOR = 0.75f;
+	private static final long NO_EXPIRY = 0L;
+
+	private final Map<K, CacheEntry<V>> store;
+	private final long expireAfterWriteMillis;
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	public LruCache(final int maxSize) {
+		this(maxSize, NO_EXPIRY);
+	}
+
+	public LruCache(final int maxSize, final long expireAfterWriteMillis) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+		}
+		if (expireAfterWriteMillis < 0) {
+			throw new IllegalArgumentException("expireAfterWriteMillis must not be negative: " + expireAfterWriteMillis);
+		}
+		this.expireAfterWriteMillis = expireAfterWriteMillis;
+		this.store = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+				if (size() > maxSize) {
+					evictionCount.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	public synchronized Optional<V> get(final K key) {
+		CacheEntry<V> entry = store.get(key);
+		if (entry == null) {
+			missCount.increment();
+			return Optional.empty();
+		}
+		if (isExpired(entry)) {
+			store.remove(key);
+			evictionCount.increment();
+			missCount.increment();
+			return Optional.empty();
+		}
+		hitCount.increment();
+		return Optional.of(entry.value());
+	}
+
+	public synchronized void put(final K key, final V value) {
+		store.put(key, new CacheEntry<>(value, System.currentTimeMillis()));
+	}
+
+	public synchronized void remove(final K key) {
+		store.remove(key);
+	}
+
+	public synchronized void clear() {
+		store.clear();
+	}
+
+	public synchronized int size() {
+		return store.size();
+	}
+
+	public CacheStats stats() {
+		return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), size());
+	}
+
+	private boolean isExpired(final CacheEntry<V> entry) {
+		return expireAfterWriteMillis != NO_EXPIRY
+			&& System.currentTimeMillis() - entry.writtenAtMillis() >= expireAfterWriteMillis;
+	}
+
+	private record CacheEntry<V>(V value, long writtenAtMillis) {
+	}
+}
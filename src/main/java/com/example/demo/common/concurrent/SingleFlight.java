@@ -0,0 +1,79 @@
+package com.example.demo.common.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청을 하나의 실행으로 합칩니다.
+ * loader는 호출한 스레드가 아닌 전용 executor에서 실행하고, 모든 호출자(먼저 들어온 요청 포함)는 copy()를 기다립니다.
+ * 따라서 어느 호출자가 취소되거나 인터럽트되어도 공유 실행과 다른 대기자에는 영향이 없습니다.
+ */
+public class SingleFlight<K, V> {
+
+	private final Executor executor;
+
+	private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder coalescedCount = new LongAdder();
+
+	public SingleFlight(final Executor executor) {
+		this.executor = executor;
+	}
+
+	public CompletableFuture<V> execute(final K key, final Supplier<V> loader) {
+		CompletableFuture<V> flight = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+		if (existing != null) {
+			coalescedCount.increment();
+			return existing.copy();
+		}
+
+		try {
+			executor.execute(() -> {
+				try {
+					flight.complete(loader.get());
+				} catch (RuntimeException | Error e) {
+					flight.completeExceptionally(e);
+				} finally {
+					inFlight.remove(key, flight);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			inFlight.remove(key, flight);
+			flight.completeExceptionally(e);
+		}
+		return flight.copy();
+	}
+
+	/**
+	 * execute의 동기 버전. loader가 던진 예외는 감싸지 않고 그대로 다시 던집니다.
+	 * 기다리던 스레드가 인터럽트되면 이 호출자의 대기만 취소하고 공유 실행은 계속됩니다.
+	 */
+	public V get(final K key, final Supplier<V> loader) {
+		CompletableFuture<V> result = execute(key, loader);
+		try {
+			return result.get();
+		} catch (InterruptedException e) {
+			result.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for in-flight call: " + key, e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("In-flight call failed: " + key, e.getCause());
+		}
+	}
+
+	public SingleFlightStats stats() {
+		return new SingleFlightStats(inFlight.size(), coalescedCount.sum());
+	}
+}
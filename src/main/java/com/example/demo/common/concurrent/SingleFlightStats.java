@@ -0,0 +1,7 @@
+package com.example.demo.common.concurrent;
+
+public record SingleFlightStats(
+	int inFlightCount,   // 현재 실행 중인 키 수
+	long coalescedCount  // 실행 중인 호출에 합쳐진 요청 수
+) {
+}
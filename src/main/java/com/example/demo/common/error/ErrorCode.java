@@ -37,6 +37,14 @@ public enum ErrorCode {
 	USER_PASSWORD_MISMATCH_EXCEPTION(HttpStatus.UNAUTHORIZED, "U-003", "비밀번호가 일치하지 않습니다."),
 
 
+	// AI
+	AI_JOB_QUEUE_FULL_EXCEPTION(HttpStatus.TOO_MANY_REQUESTS, "A-001", "퀴즈 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+	AI_BATCH_ALREADY_RUNNING_EXCEPTION(HttpStatus.CONFLICT, "A-002", "퀴즈 일괄 생성이 이미 진행 중입니다."),
+	AI_RATE_LIMITED_EXCEPTION(HttpStatus.TOO_MANY_REQUESTS, "A-003", "AI 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+	AI_UNAVAILABLE_EXCEPTION(HttpStatus.SERVICE_UNAVAILABLE, "A-004", "AI 서비스를 일시적으로 사용할 수 없습니다."),
+	AI_INVALID_RESPONSE_EXCEPTION(HttpStatus.BAD_GATEWAY, "A-005", "AI 응답을 해석할 수 없습니다."),
+	AI_GENERATION_FAILED_EXCEPTION(HttpStatus.BAD_GATEWAY, "A-006", "퀴즈 생성에 실패했습니다."),
+
 	NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND,"N-000", "해당 리소스를 찾을 수 없습니다."),
 	BAD_REQUEST_EXCEPTION(HttpStatus.BAD_REQUEST, "N-001", "잘못된 요청입니다."),;
 	private final HttpStatus status;
@@ -0,0 +1,35 @@
+package com.example.demo.common.jdbc;
+
+import java.sql.Connection;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 연결된 DB 종류를 한 번만 확인하여 DB 고유 구문(UPSERT 등) 선택에 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseDialect {
+
+	private static final String MYSQL_PRODUCT_NAME = "MySQL";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private volatile String productName;
+
+	public boolean isMySql() {
+		return MYSQL_PRODUCT_NAME.equalsIgnoreCase(getProductName());
+	}
+
+	private String getProductName() {
+		if (productName == null) {
+			productName = jdbcTemplate.execute(
+				(ConnectionCallback<String>)(Connection connection) -> connection.getMetaData().getDatabaseProductName());
+		}
+		return productName;
+	}
+}
@@ -0,0 +1,34 @@
+package com.example.demo.common.jdbc;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * MySQL 연결일 때 Connector/J 드라이버 옵션을 기본값으로 추가합니다.
+ * <ul>
+ *     <li>useCursorFetch=true: 서버 커서를 사용하여 fetch size 힌트대로 나눠 읽습니다.
+ *     이 옵션이 없으면 드라이버가 fetch size를 무시하고 결과 전체를 메모리에 올립니다.</li>
+ *     <li>rewriteBatchedStatements=true: JDBC 배치를 multi-row INSERT로 합쳐 한 번에 전송합니다.
+ *     이 옵션이 없으면 batchUpdate도 행마다 왕복합니다.</li>
+ * </ul>
+ */
+@Component
+public class MySqlDataSourcePostProcessor implements BeanPostProcessor {
+
+	private static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) {
+		if (bean instanceof HikariDataSource dataSource && isMySql(dataSource.getJdbcUrl())) {
+			dataSource.addDataSourceProperty("useCursorFetch", "true");
+			dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+		}
+		return bean;
+	}
+
+	private boolean isMySql(String jdbcUrl) {
+		return jdbcUrl != null && jdbcUrl.startsWith(MYSQL_URL_PREFIX);
+	}
+}
@@ -11,9 +11,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.example.demo.common.error.ErrorCode;
 import com.example.demo.common.error.exception.AppException;
+import com.example.demo.common.property.TokenProperty;
 import com.example.demo.common.security.PermitUrlMatcher;
 import com.example.demo.domain.jwt.JwtTokenProvider;
-import com.example.demo.domain.user.entity.UserEntity;
+import com.example.demo.domain.jwt.VerifiedToken;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -27,6 +28,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtTokenProvider jwtTokenProvider;
 	private final PermitUrlMatcher permitUrlMatcher;
+	private final TokenProperty tokenProperty;
 
 	public static final String AUTHORIZATION = "Authorization";
 	public static final String BEARER = "Bearer ";
@@ -38,15 +40,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		final String authorizationHeader = request.getHeader(AUTHORIZATION);
 		final String bearerToken = getBearerToken(authorizationHeader);
 
-		jwtTokenProvider.validateToken(bearerToken);
-		setAuthentication(bearerToken);
+		final VerifiedToken verifiedToken = jwtTokenProvider.verifyAccessToken(bearerToken);
+		setAuthentication(verifiedToken);
 
 		filterChain.doFilter(request, response);
 	}
 
-	private void setAuthentication(String accessToken) {
-		UserEntity userEntity = jwtTokenProvider.getAuthenticatedUser(accessToken);
-		Authentication authenticationToken = new UsernamePasswordAuthenticationToken(userEntity, "", List.of());
+	private void setAuthentication(VerifiedToken verifiedToken) {
+		// statelessPrincipal 모드에서는 AuthUser, 아니면 UserEntity를 principal로 사용
+		Object principal = tokenProperty.isStatelessPrincipal()
+			? verifiedToken.toAuthUser()
+			: jwtTokenProvider.getAuthenticatedUser(verifiedToken);
+		Authentication authenticationToken = new UsernamePasswordAuthenticationToken(principal, "", List.of());
 		SecurityContextHolder.getContext().setAuthentication(authenticationToken);
 	}
 
@@ -54,7 +59,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER)) {
 			throw new AppException(ErrorCode.MALFORMED_TOKEN_EXCEPTION);
 		}
-		return authorizationHeader.replace(BEARER, "");
+		return authorizationHeader.substring(BEARER.length());
 	}
 
 	@Override
@@ -2,6 +2,8 @@ package com.example.demo.common.property;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import com.example.demo.domain.ai.prompt.SystemPromptVariant;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -11,4 +13,49 @@ import lombok.Setter;
 public class AIProperties {
 	private String model;
 	private Double temperature;
+
+	// 비동기 퀴즈 생성 작업 설정
+	private int jobPoolSize = 4;
+	private int jobQueueCapacity = 50;
+	// 롱폴링 최대 대기 시간, 비동기 요청 타임아웃(spring.mvc.async.request-timeout, 미설정 시 Tomcat 기본 30초)보다 짧게 설정
+	private long jobMaxWaitSeconds = 25;
+	// 갱신되지 않은 미완료 작업을 다른 인스턴스가 가져올 수 있게 되기까지의 시간 (ms)
+	// 실행 중인 작업은 lease의 1/3 주기로 갱신하므로, 인스턴스가 멈춘 경우에만 만료됩니다.
+	private long jobClaimLease = 600000;
+
+	// 생성 결과 캐시 설정
+	private boolean generationCacheEnabled = true;
+	private int generationCacheSize = 500;
+
+	// 스트리밍 생성(SSE) 연결 유지 시간
+	private long streamTimeout = 120000;
+
+	// 긴 기사 분할 생성 설정
+	private int chunkMaxChars = 6000;
+	private int chunkParallelism = 4;
+
+	// 퀴즈 없는 기사 일괄 생성 설정
+	private int batchSize = 20;
+	private int batchParallelism = 4;
+	private int batchRequestsPerMinute = 60;
+
+	// 모델 호출 보호 계층 설정
+	// 일괄 생성 한 묶음의 최대 동시 호출 수(batchParallelism x chunkParallelism = 16)에 대화형 요청 여유분을 더한 값
+	private int maxConcurrentCalls = 24;
+	private long bulkheadWaitMillis = 1000;
+	private long requestsPerMinute = 500;
+	private long tokensPerMinute = 200000;
+	private long rateLimitWaitMillis = 2000;
+	private long callTimeoutMillis = 60000;
+	private int maxRetries = 2;
+	private long retryBaseDelayMillis = 500;
+	private long retryMaxDelayMillis = 8000;
+	private int circuitFailureThreshold = 5;
+	private long circuitOpenMillis = 30000;
+	// 분당 토큰 제한 계산에 쓰는 예상 응답 토큰 수
+	private int expectedCompletionTokens = 2000;
+
+	// 프롬프트 압축 설정
+	private SystemPromptVariant systemPromptVariant = SystemPromptVariant.FULL;
+	private long contentTokenBudget = 6000;
 }
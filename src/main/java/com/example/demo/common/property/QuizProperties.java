@@ -0,0 +1,28 @@
+package com.example.demo.common.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quiz")
+public class QuizProperties {
+
+	// 기사별 퀴즈 세트 캐시 최대 개수
+	private int cacheSize = 1000;
+
+	// 채점 이력 write-behind 설정
+	private int attemptBatchSize = 500;
+
+	private long attemptFlushInterval = 1000;
+
+	private int attemptQueueCapacity = 10000;
+
+	// 통계 증가분을 테이블에 합산하는 주기 (ms)
+	private long statsFoldInterval = 10000;
+
+	// 메모리에 통계 카운터를 유지할 최대 기사 수 (초과 시 합산이 끝난 오래된 기사부터 제거)
+	private int statsMaxArticles = 10000;
+}
@@ -15,4 +15,22 @@ public class TokenProperty {
 	private long accessExpiration;
 
 	private long refreshExpiration;
+
+	// true면 토큰 클레임만으로 인증 주체를 구성하고 DB 조회를 생략합니다.
+	private boolean statelessPrincipal = true;
+
+	private int userCacheSize = 1000;
+
+	// 캐시된 UserEntity는 이 시간이 지나면 DB에서 다시 조회합니다.
+	private long userCacheTtl = 300000;
+
+	// 검증된 토큰 캐시 (기본 비활성화)
+	private boolean verifiedCacheEnabled = false;
+
+	private int verifiedCacheSize = 10000;
+
+	private long verifiedCacheTtl = 300000;
+
+	// 만료된 블랙리스트 항목 정리 주기
+	private long blacklistPruneInterval = 60000;
 }
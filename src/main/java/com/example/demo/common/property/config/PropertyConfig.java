@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Configuration;
 
 import com.example.demo.common.property.AIProperties;
 import com.example.demo.common.property.CorsProperties;
+import com.example.demo.common.property.QuizProperties;
 import com.example.demo.common.property.SecurityProperties;
 import com.example.demo.common.property.SwaggerProperties;
 import com.example.demo.common.property.TokenProperty;
@@ -16,7 +17,8 @@ import com.example.demo.common.property.TokenProperty;
 	SwaggerProperties.class,
 	TokenProperty.class,
 	SecurityProperties.class,
-	AIProperties.class
+	AIProperties.class,
+	QuizProperties.class
 })
 public class PropertyConfig {
 }
\ No newline at end of file
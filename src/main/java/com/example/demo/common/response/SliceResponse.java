@@ -0,0 +1,25 @@
+package com.example.demo.common.response;
+
+import java.util.List;
+
+import lombok.Getter;
+
+// COUNT 쿼리 없이 다음 페이지 존재 여부와 커서만 내려주는 응답
+@Getter
+public class SliceResponse<T> {
+    private final List<T> content;
+    private final Boolean hasNext;
+    private final Long nextCursor;
+    private final int size;
+
+    private SliceResponse(List<T> content, boolean hasNext, Long nextCursor, int size) {
+        this.content = content;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.size = size;
+    }
+
+    public static <T> SliceResponse<T> of(List<T> content, boolean hasNext, Long nextCursor) {
+        return new SliceResponse<>(content, hasNext, nextCursor, content.size());
+    }
+}
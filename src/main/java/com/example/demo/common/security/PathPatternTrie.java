@@ -0,0 +1,215 @@
+package com.example.demo.common.security;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * Ant 패턴을 경로 조각('/' 단위) 트라이로 묶어, 규칙 수와 관계없이 요청 경로의 조각 수만큼만 탐색합니다.
+ * 조각 전체가 리터럴, "*", 마지막 "**" 인 패턴은 트라이로 처리하고,
+ * "*.html", "{id}" 처럼 조각 일부만 패턴인 경우는 해당 노드에서 그 조각만 AntPathMatcher로 비교합니다.
+ * 중간의 "**", '/'로 끝나거나 시작하지 않는 패턴은 드물어 AntPathMatcher 전체 비교로 남깁니다.
+ * 연속된 '/'가 없는 경로(PermitUrlMatcher.normalize 결과)를 받으며, 결과는 AntPathMatcher.match와 같습니다.
+ */
+final class PathPatternTrie {
+
+	private static final char SEPARATOR = '/';
+	private static final String SINGLE_WILDCARD = "*";
+	private static final String ANY_WILDCARD = "**";
+
+	private final AntPathMatcher matcher;
+	private final Node root = new Node();
+	private final List<String> fallbackPatterns = new ArrayList<>();
+
+	PathPatternTrie(AntPathMatcher matcher) {
+		this.matcher = matcher;
+	}
+
+	void add(String pattern) {
+		if (pattern.isEmpty() || pattern.charAt(0) != SEPARATOR || pattern.charAt(pattern.length() - 1) == SEPARATOR
+			|| pattern.contains("//")) {
+			fallbackPatterns.add(pattern);
+			return;
+		}
+		String[] segments = pattern.substring(1).split("/");
+		Node node = root;
+		for (int i = 0; i < segments.length; i++) {
+			String segment = segments[i];
+			if (ANY_WILDCARD.equals(segment)) {
+				if (i != segments.length - 1) {
+					fallbackPatterns.add(pattern);
+					return;
+				}
+				node.matchesAll = true;
+				return;
+			}
+			if (SINGLE_WILDCARD.equals(segment)) {
+				node = node.singleWildcard();
+			} else if (matcher.isPattern(segment)) {
+				node = node.segmentPattern(segment);
+			} else {
+				node = node.literals.computeIfAbsent(segment);
+			}
+		}
+		node.terminal = true;
+	}
+
+	boolean matches(String path) {
+		if (!path.isEmpty() && path.charAt(0) == SEPARATOR && matches(root, path, 0)) {
+			return true;
+		}
+		for (String pattern : fallbackPatterns) {
+			if (matcher.match(pattern, path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// separatorIndex: 다음 조각 앞의 '/' 위치, 경로를 모두 소비했으면 path.length()
+	private boolean matches(Node node, String path, int separatorIndex) {
+		if (node.matchesAll) {
+			return true;
+		}
+		int start = separatorIndex + 1;
+		if (start >= path.length()) {
+			if (separatorIndex == path.length()) {
+				return node.terminal;
+			}
+			// AntPathMatcher는 "/a/*" 와 "/a/" 를 일치로 봅니다.
+			return node.singleWildcard != null && node.singleWildcard.terminal;
+		}
+		int end = path.indexOf(SEPARATOR, start);
+		if (end < 0) {
+			end = path.length();
+		}
+
+		Node literal = node.literals.get(path, start, end);
+		if (literal != null && matches(literal, path, end)) {
+			return true;
+		}
+		if (node.singleWildcard != null && matches(node.singleWildcard, path, end)) {
+			return true;
+		}
+		if (node.segmentPatterns != null) {
+			String segment = path.substring(start, end);
+			for (SegmentPattern segmentPattern : node.segmentPatterns) {
+				if (matcher.match(segmentPattern.pattern(), segment) && matches(segmentPattern.node(), path, end)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static final class Node {
+
+		private final SegmentMap literals = new SegmentMap();
+		private Node singleWildcard;
+		private List<SegmentPattern> segmentPatterns;
+		private boolean terminal;
+		private boolean matchesAll;
+
+		Node singleWildcard() {
+			if (singleWildcard == null) {
+				singleWildcard = new Node();
+			}
+			return singleWildcard;
+		}
+
+		Node segmentPattern(String pattern) {
+			if (segmentPatterns == null) {
+				segmentPatterns = new ArrayList<>();
+			}
+			for (SegmentPattern segmentPattern : segmentPatterns) {
+				if (segmentPattern.pattern().equals(pattern)) {
+					return segmentPattern.node();
+				}
+			}
+			SegmentPattern segmentPattern = new SegmentPattern(pattern, new Node());
+			segmentPatterns.add(segmentPattern);
+			return segmentPattern.node();
+		}
+	}
+
+	private record SegmentPattern(String pattern, Node node) {
+	}
+
+	/**
+	 * 리터럴 조각 -> 자식 노드. 요청 경로를 조각마다 substring 하지 않도록
+	 * String.hashCode와 같은 해시를 경로 구간에서 직접 계산하는 선형 탐사 해시 테이블입니다.
+	 */
+	private static final class SegmentMap {
+
+		private static final int INITIAL_CAPACITY = 4;
+
+		private String[] keys = new String[INITIAL_CAPACITY];
+		private Node[] nodes = new Node[INITIAL_CAPACITY];
+		private int size;
+
+		Node get(String path, int start, int end) {
+			if (size == 0) {
+				return null;
+			}
+			int length = end - start;
+			int mask = keys.length - 1;
+			for (int index = spread(hash(path, start, end)) & mask; keys[index] != null; index = (index + 1) & mask) {
+				String key = keys[index];
+				if (key.length() == length && path.regionMatches(start, key, 0, length)) {
+					return nodes[index];
+				}
+			}
+			return null;
+		}
+
+		Node computeIfAbsent(String key) {
+			Node node = get(key, 0, key.length());
+			if (node != null) {
+				return node;
+			}
+			if ((size + 1) * 2 > keys.length) {
+				resize();
+			}
+			node = new Node();
+			put(key, node);
+			return node;
+		}
+
+		private void put(String key, Node node) {
+			int mask = keys.length - 1;
+			int index = spread(key.hashCode()) & mask;
+			while (keys[index] != null) {
+				index = (index + 1) & mask;
+			}
+			keys[index] = key;
+			nodes[index] = node;
+			size++;
+		}
+
+		private void resize() {
+			String[] oldKeys = keys;
+			Node[] oldNodes = nodes;
+			keys = new String[oldKeys.length * 2];
+			nodes = new Node[oldKeys.length * 2];
+			size = 0;
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != null) {
+					put(oldKeys[i], oldNodes[i]);
+				}
+			}
+		}
+
+		private static int hash(String path, int start, int end) {
+			int hash = 0;
+			for (int i = start; i < end; i++) {
+				hash = 31 * hash + path.charAt(i);
+			}
+			return hash;
+		}
+
+		private static int spread(int hash) {
+			return hash ^ (hash >>> 16);
+		}
+	}
+}
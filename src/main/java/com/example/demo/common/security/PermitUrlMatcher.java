@@ -1,6 +1,8 @@
 package com.example.demo.common.security;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
@@ -8,6 +10,7 @@ import org.springframework.util.AntPathMatcher;
 
 import com.example.demo.common.property.SecurityProperties;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
@@ -15,24 +18,60 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PermitUrlMatcher implements RequestMatcher {
 
+	private static final String DOUBLE_SEPARATOR = "//";
+
 	private final SecurityProperties securityProperties;
 	private final AntPathMatcher matcher = new AntPathMatcher();
 
+	// HTTP 메소드별로 기동 시 한 번만 컴파일한 허용 규칙
+	private Map<String, PathPatternTrie> rulesByMethod = Map.of();
+
+	@PostConstruct
+	void compilePermitUrls() {
+		Map<String, PathPatternTrie> compiledRules = new HashMap<>();
+		String[] permitUrls = securityProperties.getPermitUrls();
+		if (permitUrls == null) {
+			return;
+		}
+		for (String permitUrl : permitUrls) {
+			// permitUrl에서 메소드와 패턴을 분리
+			String[] parts = permitUrl.split(":", 2);
+			if (parts.length != 2) {
+				continue;
+			}
+			compiledRules.computeIfAbsent(parts[0].toUpperCase(Locale.ROOT), method -> new PathPatternTrie(matcher))
+				.add(parts[1]);
+		}
+		rulesByMethod = Map.copyOf(compiledRules);
+	}
+
 	@Override
 	public boolean matches(HttpServletRequest request) {
-		final String method = request.getMethod();
-		final String uri = request.getRequestURI();
-
-		return Arrays.stream(securityProperties.getPermitUrls())
-			.anyMatch(permitUrl -> {
-				// permitUrl에서 메소드와 패턴을 분리
-				String[] parts = permitUrl.split(":", 2);
-				if (parts.length != 2)
-					return false;
-				String permitMethod = parts[0];
-				String permitPattern = parts[1];
-
-				return permitMethod.equalsIgnoreCase(method) && matcher.match(permitPattern, uri);
-			});
+		return matches(request.getMethod(), request.getRequestURI());
+	}
+
+	boolean matches(String method, String uri) {
+		PathPatternTrie rules = rulesByMethod.get(method.toUpperCase(Locale.ROOT));
+		return rules != null && rules.matches(normalize(uri));
+	}
+
+	/**
+	 * AntPathMatcher는 빈 경로 조각을 무시하므로("/a//b" == "/a/b"),
+	 * 트라이 탐색도 같은 결과가 나오도록 연속된 '/'를 하나로 합칩니다.
+	 * 끝의 '/'는 AntPathMatcher에서도 구분되므로 그대로 둡니다.
+	 */
+	static String normalize(String uri) {
+		if (!uri.contains(DOUBLE_SEPARATOR)) {
+			return uri;
+		}
+		StringBuilder normalized = new StringBuilder(uri.length());
+		for (int i = 0; i < uri.length(); i++) {
+			char c = uri.charAt(i);
+			if (c == '/' && normalized.length() > 0 && normalized.charAt(normalized.length() - 1) == '/') {
+				continue;
+			}
+			normalized.append(c);
+		}
+		return normalized.toString();
 	}
 }
@@ -0,0 +1,31 @@
+package com.example.demo.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+
+public class HashUtil {
+
+	private static final String HASH_ALGORITHM = "SHA-256";
+
+	// SHA-256 해시를 소문자 16진수(64자)로 반환
+	public static String sha256Hex(final String value) {
+		return HexFormat.of().formatHex(sha256(value));
+	}
+
+	// SHA-256 해시를 패딩 없는 URL-safe Base64(43자)로 반환
+	public static String sha256Base64Url(final String value) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(value));
+	}
+
+	private static byte[] sha256(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+			return digest.digest(value.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(HASH_ALGORITHM + " is not supported", e);
+		}
+	}
+}
@@ -4,6 +4,7 @@ import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.support.RetryTemplate;
 
 @Configuration
 public class ChatClientConfig {
@@ -12,4 +13,12 @@ public class ChatClientConfig {
 	public ChatClient openAiChatClient(OpenAiChatModel chatModel) {
 		return ChatClient.create(chatModel);
 	}
+
+	// 재시도는 ResilientChatExecutor가 담당하므로 OpenAiChatModel의 Spring AI 기본 재시도(최대 10회)를 끕니다.
+	@Bean
+	public RetryTemplate retryTemplate() {
+		return RetryTemplate.builder()
+			.maxAttempts(1)
+			.build();
+	}
 }
\ No newline at end of file
@@ -0,0 +1,191 @@
+package com.example.demo.domain.ai.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.common.error.ErrorCode;
+import com.example.demo.common.error.exception.AppException;
+import com.example.demo.common.property.AIProperties;
+import com.example.demo.domain.ai.service.QuizGenerationPipeline;
+import com.example.demo.domain.article.entity.Article;
+import com.example.demo.domain.article.repository.ArticleRepository;
+import com.example.demo.domain.quiz.dto.request.QuizQuestionUploadDto;
+import com.example.demo.domain.quiz.dto.request.QuizUploadRequest;
+import com.example.demo.domain.quiz.service.QuizService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 퀴즈가 없는 기사들의 퀴즈를 서버에서 일괄 생성해 바로 저장하는 배치
+ * batchSize개씩 동시에 생성하고, 한 묶음이 끝나면 기사마다 따로 커밋합니다. (한 기사의 저장 실패가 묶음 전체를 되돌리지 않음)
+ * 생성하는 동안 다른 경로로 퀴즈가 저장된 기사는 덮어쓰지 않고 건너뜁니다.
+ * 퀴즈가 저장된 기사는 다음 조회에서 제외되므로 중단되더라도 남은 기사부터 다시 시작합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizBatchGenerator {
+
+	private final ArticleRepository articleRepository;
+	private final QuizGenerationPipeline quizGenerationPipeline;
+	private final QuizService quizService;
+	private final AIProperties aiProperties;
+
+	private final ExecutorService batchRunner = Executors.newSingleThreadExecutor(
+		runnable -> new Thread(runnable, "quiz-batch-generator"));
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final AtomicLong processedCount = new AtomicLong();
+	private final AtomicLong generatedCount = new AtomicLong();
+	private final AtomicLong skippedCount = new AtomicLong();
+	private final AtomicLong failedCount = new AtomicLong();
+	private volatile Long lastArticleId;
+
+	// 요청 간 최소 간격을 맞추기 위한 다음 호출 가능 시각 (nanoTime)
+	private final AtomicLong nextCallNanos = new AtomicLong(System.nanoTime());
+
+	/**
+	 * 일괄 생성을 백그라운드에서 시작합니다.
+	 *
+	 * @param limit 이번 실행에서 처리할 최대 기사 수 (null이면 남은 기사 전체)
+	 * @throws AppException 이미 실행 중인 경우 AI_BATCH_ALREADY_RUNNING_EXCEPTION
+	 */
+	public QuizBatchProgress start(Integer limit) {
+		if (!running.compareAndSet(false, true)) {
+			throw new AppException(ErrorCode.AI_BATCH_ALREADY_RUNNING_EXCEPTION);
+		}
+		processedCount.set(0);
+		generatedCount.set(0);
+		skippedCount.set(0);
+		failedCount.set(0);
+		lastArticleId = null;
+
+		batchRunner.execute(() -> {
+			try {
+				run(limit == null ? Long.MAX_VALUE : limit);
+			} catch (RuntimeException e) {
+				log.error("Quiz batch generation stopped", e);
+			} finally {
+				running.set(false);
+			}
+		});
+		return getProgress();
+	}
+
+	public QuizBatchProgress getProgress() {
+		return new QuizBatchProgress(running.get(), processedCount.get(), generatedCount.get(), skippedCount.get(),
+			failedCount.get(), lastArticleId);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		batchRunner.shutdownNow();
+	}
+
+	private void run(long limit) {
+		long afterId = 0L;
+		long remaining = limit;
+		while (remaining > 0 && !Thread.currentThread().isInterrupted()) {
+			int pageSize = (int)Math.min(aiProperties.getBatchSize(), remaining);
+			List<Article> articles = articleRepository.findWithoutQuizAfter(afterId, PageRequest.of(0, pageSize));
+			if (articles.isEmpty()) {
+				return;
+			}
+
+			generateBatch(articles).forEach(this::commit);
+
+			afterId = articles.get(articles.size() - 1).getId();
+			lastArticleId = afterId;
+			remaining -= articles.size();
+		}
+	}
+
+	private void commit(QuizUploadRequest upload) {
+		try {
+			if (quizService.uploadQuizIfAbsent(upload)) {
+				generatedCount.incrementAndGet();
+			} else {
+				skippedCount.incrementAndGet();
+			}
+		} catch (RuntimeException e) {
+			failedCount.incrementAndGet();
+			log.warn("Failed to save generated quiz for article: id={}", upload.articleId(), e);
+		}
+	}
+
+	// 한 묶음의 기사를 가상 스레드로 동시에 생성합니다. (동시 호출 수 batchParallelism, 분당 batchRequestsPerMinute)
+	private List<QuizUploadRequest> generateBatch(List<Article> articles) {
+		Semaphore permits = new Semaphore(aiProperties.getBatchParallelism());
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<QuizUploadRequest>> futures = new ArrayList<>(articles.size());
+			for (Article article : articles) {
+				futures.add(executor.submit(() -> {
+					permits.acquire();
+					try {
+						awaitRateLimit();
+						return generateUpload(article);
+					} finally {
+						permits.release();
+					}
+				}));
+			}
+
+			List<QuizUploadRequest> uploads = new ArrayList<>();
+			for (int i = 0; i < futures.size(); i++) {
+				processedCount.incrementAndGet();
+				try {
+					QuizUploadRequest upload = futures.get(i).get();
+					if (upload == null) {
+						skippedCount.incrementAndGet();
+					} else {
+						uploads.add(upload);
+					}
+				} catch (ExecutionException e) {
+					failedCount.incrementAndGet();
+					log.warn("Quiz generation failed for article: id={}", articles.get(i).getId(), e.getCause());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					futures.forEach(future -> future.cancel(true));
+					break;
+				}
+			}
+			return uploads;
+		}
+	}
+
+	private QuizUploadRequest generateUpload(Article article) {
+		if (article.getDescription() == null || article.getDescription().isBlank()) {
+			return null;
+		}
+		List<QuizQuestionUploadDto> questions = QuizResponseConverter.toUploadQuestions(
+			quizGenerationPipeline.generateQuiz(article.getTitle(), article.getDescription()).qna());
+		return questions.isEmpty() ? null : new QuizUploadRequest(article.getId(), questions);
+	}
+
+	private void awaitRateLimit() throws InterruptedException {
+		long intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, aiProperties.getBatchRequestsPerMinute());
+		long now = System.nanoTime();
+		long slot = nextCallNanos.getAndAccumulate(now, (next, current) -> Math.max(next, current) + intervalNanos);
+		long waitNanos = Math.max(slot, now) - now;
+		if (waitNanos > 0) {
+			LockSupport.parkNanos(waitNanos);
+		}
+		if (Thread.interrupted()) {
+			throw new InterruptedException();
+		}
+	}
+}
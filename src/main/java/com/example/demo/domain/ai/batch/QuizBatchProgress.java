@@ -0,0 +1,11 @@
+package com.example.demo.domain.ai.batch;
+
+public record QuizBatchProgress(
+	boolean running,
+	long processedCount,  // 생성을 시도한 기사 수
+	long generatedCount,  // 퀴즈가 저장된 기사 수
+	long skippedCount,    // 저장할 수 있는 문제가 없었던 기사 수
+	long failedCount,     // 생성 호출이 실패한 기사 수
+	Long lastArticleId    // 마지막으로 처리한 기사 id
+) {
+}
@@ -0,0 +1,71 @@
+package com.example.demo.domain.ai.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.example.demo.domain.quiz.dto.request.QuizQuestionUploadDto;
+import com.example.demo.domain.quiz.service.QuizService;
+import com.example.demo.web.ai.dto.response.QuizResponse;
+import com.example.demo.web.ai.dto.response.QuizType;
+
+// AI 생성 결과(QuizResponse)를 퀴즈 업로드 형식으로 변환
+class QuizResponseConverter {
+
+	private static final String OX_TRUE = "O";
+	private static final String OX_FALSE = "X";
+
+	private QuizResponseConverter() {
+	}
+
+	// 저장할 수 있는 항목만 변환합니다. (정답이 O/X가 아니거나 보기 중에 없는 항목, 보기 수가 저장 범위를 벗어난 항목은 버림)
+	static List<QuizQuestionUploadDto> toUploadQuestions(List<QuizResponse> quizzes) {
+		List<QuizQuestionUploadDto> questions = new ArrayList<>();
+		if (quizzes == null) {
+			return questions;
+		}
+		for (QuizResponse quiz : quizzes) {
+			if (quiz == null || quiz.quizType() == null || quiz.question() == null || quiz.answer() == null) {
+				continue;
+			}
+			QuizQuestionUploadDto question = quiz.quizType() == QuizType.MULTIPLE_CHOICE
+				? toMultipleChoice(quiz)
+				: toOx(quiz);
+			if (question != null) {
+				questions.add(question);
+			}
+		}
+		return questions;
+	}
+
+	private static QuizQuestionUploadDto toOx(QuizResponse quiz) {
+		Boolean correctAnswer = toOxAnswer(quiz.answer());
+		return correctAnswer == null ? null : QuizQuestionUploadDto.ox(null, quiz.question().strip(), correctAnswer);
+	}
+
+	private static QuizQuestionUploadDto toMultipleChoice(QuizResponse quiz) {
+		List<String> options = quiz.options();
+		if (options == null || options.size() < 2 || options.size() > QuizService.MAX_OPTION_COUNT
+			|| options.contains(null)) {
+			return null;
+		}
+		String answer = quiz.answer().strip();
+		for (int index = 0; index < options.size(); index++) {
+			if (options.get(index).strip().equals(answer)) {
+				return QuizQuestionUploadDto.multipleChoice(null, quiz.question().strip(), List.copyOf(options), index);
+			}
+		}
+		return null;
+	}
+
+	private static Boolean toOxAnswer(String answer) {
+		String normalized = answer.strip().toUpperCase(Locale.ROOT);
+		if (OX_TRUE.equals(normalized)) {
+			return Boolean.TRUE;
+		}
+		if (OX_FALSE.equals(normalized)) {
+			return Boolean.FALSE;
+		}
+		return null;
+	}
+}
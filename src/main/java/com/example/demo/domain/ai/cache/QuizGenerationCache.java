@@ -0,0 +1,78 @@
+package com.example.demo.domain.ai.cache;
+
+import java.util.Optional;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.common.cache.CacheStats;
+import com.example.demo.common.cache.LruCache;
+import com.example.demo.common.property.AIProperties;
+import com.example.demo.domain.ai.entity.QuizGenerationCacheEntry;
+import com.example.demo.domain.ai.repository.QuizGenerationCacheRepository;
+import com.example.demo.web.ai.dto.response.QuizListResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 퀴즈 생성 결과 캐시
+ * 메모리 LRU를 먼저 확인하고, 없으면 quiz_generation_cache 테이블에서 불러옵니다. (재시작 후에도 유지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizGenerationCache {
+
+	private final QuizGenerationCacheRepository quizGenerationCacheRepository;
+	private final AIProperties aiProperties;
+	private final ObjectMapper objectMapper;
+
+	private LruCache<String, QuizListResponse> generationCache;
+
+	@PostConstruct
+	void initCache() {
+		generationCache = new LruCache<>(aiProperties.getGenerationCacheSize());
+	}
+
+	public Optional<QuizListResponse> get(String cacheKey) {
+		Optional<QuizListResponse> cached = generationCache.get(cacheKey);
+		if (cached.isPresent()) {
+			return cached;
+		}
+		Optional<QuizListResponse> stored = quizGenerationCacheRepository.findById(cacheKey)
+			.flatMap(this::readResult);
+		stored.ifPresent(response -> generationCache.put(cacheKey, response));
+		return stored;
+	}
+
+	// 캐시 저장 실패는 생성 결과 응답에 영향을 주지 않도록 로그만 남깁니다.
+	public void put(String cacheKey, String model, QuizListResponse response) {
+		generationCache.put(cacheKey, response);
+		try {
+			quizGenerationCacheRepository.save(QuizGenerationCacheEntry.builder()
+				.cacheKey(cacheKey)
+				.model(model)
+				.resultJson(objectMapper.writeValueAsString(response))
+				.build());
+		} catch (JsonProcessingException | DataAccessException e) {
+			log.warn("Failed to store quiz generation cache entry: cacheKey={}", cacheKey, e);
+		}
+	}
+
+	public CacheStats getStats() {
+		return generationCache.stats();
+	}
+
+	private Optional<QuizListResponse> readResult(QuizGenerationCacheEntry entry) {
+		try {
+			return Optional.of(objectMapper.readValue(entry.getResultJson(), QuizListResponse.class));
+		} catch (JsonProcessingException e) {
+			log.warn("Ignoring unreadable quiz generation cache entry: cacheKey={}", entry.getCacheKey(), e);
+			return Optional.empty();
+		}
+	}
+}
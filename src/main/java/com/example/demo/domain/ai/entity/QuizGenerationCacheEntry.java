@@ -0,0 +1,37 @@
+package com.example.demo.domain.ai.entity;
+
+import com.example.demo.common.base.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 생성 입력 해시별 AI 퀴즈 생성 결과 (같은 기사를 다시 요청하면 모델을 호출하지 않고 재사용)
+@Entity
+@Getter
+@Table(name = "quiz_generation_cache")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QuizGenerationCacheEntry extends BaseEntity {
+
+	@Id
+	@Column(name = "cache_key", length = 64)
+	private String cacheKey;
+
+	@Column(name = "model", length = 100)
+	private String model;
+
+	@Column(name = "result_json", nullable = false, columnDefinition = "TEXT")
+	private String resultJson;
+
+	@Builder
+	private QuizGenerationCacheEntry(String cacheKey, String model, String resultJson) {
+		this.cacheKey = cacheKey;
+		this.model = model;
+		this.resultJson = resultJson;
+	}
+}
@@ -0,0 +1,58 @@
+package com.example.demo.domain.ai.entity;
+
+import com.example.demo.common.base.BaseEntity;
+import com.example.demo.common.error.ErrorCode;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 비동기 AI 퀴즈 생성 작업 (재시작 후에도 이어서 처리할 수 있도록 입력과 결과를 저장)
+@Entity
+@Getter
+@Table(name = "quiz_generation_job")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QuizGenerationJob extends BaseEntity {
+
+	@Id
+	@Column(name = "id", length = 36)
+	private String id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private QuizGenerationStatus status;
+
+	// 작업을 실행 중인 인스턴스 id (재시작 시 작업 중복 실행 방지)
+	@Column(name = "owner", length = 36)
+	private String owner;
+
+	@Column(name = "title", length = 500)
+	private String title;
+
+	@Column(name = "content", columnDefinition = "TEXT")
+	private String content;
+
+	@Column(name = "result_json", columnDefinition = "TEXT")
+	private String resultJson;
+
+	// 실패 원인은 클라이언트에 노출 가능한 에러 코드로만 저장하고, 상세 원인은 로그로 남깁니다.
+	@Enumerated(EnumType.STRING)
+	@Column(name = "error_code", length = 50)
+	private ErrorCode errorCode;
+
+	@Builder
+	private QuizGenerationJob(String id, String owner, String title, String content) {
+		this.id = id;
+		this.owner = owner;
+		this.title = title;
+		this.content = content;
+		this.status = QuizGenerationStatus.PENDING;
+	}
+}
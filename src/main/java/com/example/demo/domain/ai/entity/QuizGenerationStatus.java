@@ -0,0 +1,12 @@
+package com.example.demo.domain.ai.entity;
+
+public enum QuizGenerationStatus {
+	PENDING,   // 대기 중
+	RUNNING,   // 생성 중
+	COMPLETED, // 완료
+	FAILED;    // 실패
+
+	public boolean isFinished() {
+		return this == COMPLETED || this == FAILED;
+	}
+}
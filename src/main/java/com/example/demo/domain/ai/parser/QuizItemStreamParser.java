@@ -0,0 +1,215 @@
+package com.example.demo.domain.ai.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.example.demo.web.ai.dto.response.QuizResponse;
+
+/**
+ * 스트리밍으로 조금씩 도착하는 {"qna": [ {...}, {...} ]} 또는 [ {...}, {...} ] 응답에서
+ * 항목이 문법적으로 완성되는 즉시 QuizResponse로 변환하는 파서
+ * JSON 앞의 설명 문장이나 코드 펜스는 건너뛰고, 루트가 닫히면 뒤에 오는 내용은 무시합니다.
+ * QuizOutputParser가 허용하는 작은따옴표 문자열, 따옴표 없는 키, 주석 안의 괄호는 깊이 계산에서 제외합니다.
+ * 스트림 하나당 인스턴스 하나를 사용합니다. (스레드 안전하지 않음)
+ */
+public class QuizItemStreamParser {
+
+	// 루트 객체 -> qna 배열 -> 항목 객체
+	private static final int OBJECT_ROOT_ITEM_DEPTH = 3;
+	// 루트 배열 -> 항목 객체
+	private static final int ARRAY_ROOT_ITEM_DEPTH = 2;
+
+	private final QuizOutputParser quizOutputParser;
+
+	// JSON 시작 위치를 찾기 전까지 받은 텍스트 (시작 여부를 판단할 수 없는 마지막 괄호부터만 보관)
+	private final StringBuilder preamble = new StringBuilder();
+	private final StringBuilder item = new StringBuilder();
+	private final StringBuilder containers = new StringBuilder();
+	// 0이면 아직 JSON 시작 전
+	private int itemDepth;
+	private boolean capturing;
+	// 열린 문자열의 따옴표(" 또는 '), 문자열 밖이면 0
+	private char quote;
+	private boolean escaped;
+	private boolean afterSlash;
+	private boolean lineComment;
+	private boolean blockComment;
+	private boolean blockCommentStar;
+	private boolean finished;
+
+	public QuizItemStreamParser(QuizOutputParser quizOutputParser) {
+		this.quizOutputParser = quizOutputParser;
+	}
+
+	/**
+	 * 새로 도착한 조각을 처리하고, 이번 조각으로 완성된 퀴즈 항목들을 반환합니다.
+	 */
+	public List<QuizResponse> feed(String chunk) {
+		List<QuizResponse> completed = new ArrayList<>();
+		if (finished) {
+			return completed;
+		}
+		String payload = chunk;
+		if (itemDepth == 0) {
+			preamble.append(chunk);
+			int start = findPayloadStart();
+			if (start < 0) {
+				return completed;
+			}
+			itemDepth = preamble.charAt(start) == '[' ? ARRAY_ROOT_ITEM_DEPTH : OBJECT_ROOT_ITEM_DEPTH;
+			payload = preamble.substring(start);
+			preamble.setLength(0);
+		}
+
+		for (int i = 0; i < payload.length() && !finished; i++) {
+			char c = payload.charAt(i);
+			if (quote != 0) {
+				append(c);
+				if (escaped) {
+					escaped = false;
+				} else if (c == '\\') {
+					escaped = true;
+				} else if (c == quote) {
+					quote = 0;
+				}
+				continue;
+			}
+			if (skipComment(c)) {
+				continue;
+			}
+
+			switch (c) {
+				case '"', '\'' -> {
+					quote = c;
+					append(c);
+				}
+				case '/' -> {
+					afterSlash = true;
+					append(c);
+				}
+				case '{', '[' -> {
+					containers.append(c);
+					// 배열 바로 안의 객체만 항목으로 읽습니다.
+					if (!capturing && c == '{' && containers.length() == itemDepth
+						&& containers.charAt(itemDepth - 2) == '[') {
+						capturing = true;
+					}
+					append(c);
+				}
+				case '}', ']' -> {
+					append(c);
+					containers.setLength(containers.length() - 1);
+					if (capturing && containers.length() == itemDepth - 1) {
+						capturing = false;
+						readItem().ifPresent(completed::add);
+					}
+					finished = containers.isEmpty();
+				}
+				default -> append(c);
+			}
+		}
+		return completed;
+	}
+
+	// 주석 안의 문자면 항목에만 붙이고 true를 반환합니다. ("//" 는 줄 끝까지, "/* */" 는 닫힐 때까지)
+	private boolean skipComment(char c) {
+		if (lineComment) {
+			append(c);
+			lineComment = c != '\n';
+			return true;
+		}
+		if (blockComment) {
+			append(c);
+			blockComment = !(blockCommentStar && c == '/');
+			blockCommentStar = c == '*';
+			return true;
+		}
+		if (!afterSlash) {
+			return false;
+		}
+		afterSlash = false;
+		if (c == '/') {
+			lineComment = true;
+		} else if (c == '*') {
+			blockComment = true;
+			blockCommentStar = false;
+		} else {
+			return false;
+		}
+		append(c);
+		return true;
+	}
+
+	/**
+	 * preamble에서 JSON 루트가 시작하는 위치를 찾습니다.
+	 * 설명 문장 속 괄호와 구분하기 위해, 다음 공백 아닌 문자가 '{' 뒤에는 키(따옴표, 또는 따옴표 없는 이름과 ':') 또는 '}',
+	 * '[' 뒤에는 '{' 또는 ']'인 경우만 시작으로 봅니다.
+	 *
+	 * @return 시작 위치, 아직 없으면 -1
+	 */
+	private int findPayloadStart() {
+		for (int i = 0; i < preamble.length(); i++) {
+			char c = preamble.charAt(i);
+			if (c != '{' && c != '[') {
+				continue;
+			}
+			int next = i + 1;
+			while (next < preamble.length() && Character.isWhitespace(preamble.charAt(next))) {
+				next++;
+			}
+			if (next == preamble.length()) {
+				// 다음 조각을 받아야 판단할 수 있으므로 이 괄호부터 남겨 둡니다.
+				preamble.delete(0, i);
+				return -1;
+			}
+			char following = preamble.charAt(next);
+			if (c == '[') {
+				if (following == '{' || following == ']') {
+					return i;
+				}
+				continue;
+			}
+			if (following == '"' || following == '\'' || following == '}') {
+				return i;
+			}
+			if (Character.isJavaIdentifierStart(following)) {
+				int colon = skipUnquotedKey(next);
+				if (colon == preamble.length()) {
+					preamble.delete(0, i);
+					return -1;
+				}
+				if (preamble.charAt(colon) == ':') {
+					return i;
+				}
+			}
+		}
+		preamble.setLength(0);
+		return -1;
+	}
+
+	// 따옴표 없는 키와 뒤따르는 공백을 건너뛴 위치 (끝까지 가면 preamble.length())
+	private int skipUnquotedKey(int start) {
+		int index = start;
+		while (index < preamble.length() && Character.isJavaIdentifierPart(preamble.charAt(index))) {
+			index++;
+		}
+		while (index < preamble.length() && Character.isWhitespace(preamble.charAt(index))) {
+			index++;
+		}
+		return index;
+	}
+
+	private void append(char c) {
+		if (capturing) {
+			item.append(c);
+		}
+	}
+
+	// 형식이 맞지 않는 항목 하나 때문에 스트림 전체를 실패시키지 않습니다. (보정할 수 없는 항목은 버림)
+	private Optional<QuizResponse> readItem() {
+		String json = item.toString();
+		item.setLength(0);
+		return quizOutputParser.parseItem(json);
+	}
+}
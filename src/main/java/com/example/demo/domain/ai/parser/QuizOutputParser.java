@@ -0,0 +1,262 @@
+package com.example.demo.domain.ai.parser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.common.error.ErrorCode;
+import com.example.demo.common.error.exception.AppException;
+import com.example.demo.web.ai.dto.response.QuizListResponse;
+import com.example.demo.web.ai.dto.response.QuizResponse;
+import com.example.demo.web.ai.dto.response.QuizType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모델 출력 JSON을 너그럽게 읽고 항목별로 검증/보정하는 파서
+ * 코드 펜스, 후행 쉼표, 작은따옴표 등 흔한 형식 오류를 허용하고,
+ * 규칙에 맞지 않는 항목은 고칠 수 있으면 고치고 아니면 그 항목만 버립니다. (모델 재호출 없이)
+ */
+@Slf4j
+@Component
+public class QuizOutputParser {
+
+	private static final Pattern CODE_FENCE = Pattern.compile("```[a-zA-Z]*\\s*(.*?)\\s*```", Pattern.DOTALL);
+	// "B", "(b)", "B)", "B." 형태의 보기 기호
+	private static final Pattern OPTION_LETTER = Pattern.compile("^\\(?([A-Ja-j])[).:]?$");
+	// "B) 본문", "2. 본문" 처럼 보기 기호가 앞에 붙은 정답
+	private static final Pattern OPTION_PREFIX = Pattern.compile("^\\(?([A-Ja-j]|\\d{1,2})[).:]\\s+(.+)$");
+
+	private static final Set<String> TRUE_ANSWERS = Set.of("O", "TRUE", "T", "YES", "Y", "참", "맞다", "맞음", "○");
+	private static final Set<String> FALSE_ANSWERS = Set.of("X", "FALSE", "F", "NO", "N", "거짓", "틀리다", "틀림", "×");
+
+	private final ObjectMapper lenientMapper = JsonMapper.builder()
+		.enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+		.enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+		.enable(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES)
+		.enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+		.enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+		.build();
+
+	private final LongAdder repairedCount = new LongAdder();
+	private final LongAdder droppedCount = new LongAdder();
+
+	/**
+	 * 전체 응답을 읽습니다. 루트가 {"qna": [...]}가 아니라 배열이어도 허용합니다.
+	 *
+	 * @throws AppException JSON으로 읽을 수 없는 응답인 경우 AI_INVALID_RESPONSE_EXCEPTION
+	 */
+	public QuizListResponse parse(String output) {
+		JsonNode root = readTree(output)
+			.orElseThrow(() -> new AppException(ErrorCode.AI_INVALID_RESPONSE_EXCEPTION));
+		JsonNode items = root.isArray() ? root : root.path("qna");
+		if (!items.isArray()) {
+			throw new AppException(ErrorCode.AI_INVALID_RESPONSE_EXCEPTION);
+		}
+
+		List<QuizResponse> quizzes = new ArrayList<>(items.size());
+		for (JsonNode item : items) {
+			toQuiz(item).ifPresent(quizzes::add);
+		}
+		return new QuizListResponse(quizzes);
+	}
+
+	// 스트리밍 중 완성된 항목 하나를 읽습니다.
+	public Optional<QuizResponse> parseItem(String itemJson) {
+		return readTree(itemJson).flatMap(this::toQuiz);
+	}
+
+	public long getRepairedCount() {
+		return repairedCount.sum();
+	}
+
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	private Optional<JsonNode> readTree(String output) {
+		if (output == null || output.isBlank()) {
+			return Optional.empty();
+		}
+		String json = extractJson(output);
+		try {
+			return Optional.ofNullable(lenientMapper.readTree(json));
+		} catch (JsonProcessingException e) {
+			log.warn("Unreadable AI quiz output: {}", json, e);
+			return Optional.empty();
+		}
+	}
+
+	// 코드 펜스와 앞뒤 설명 문장을 걷어내고 첫 '{' 또는 '['부터 마지막 '}' 또는 ']'까지만 남깁니다.
+	private String extractJson(String output) {
+		Matcher fence = CODE_FENCE.matcher(output);
+		String text = fence.find() ? fence.group(1) : output;
+		int start = indexOfFirst(text, '{', '[');
+		int end = Math.max(text.lastIndexOf('}'), text.lastIndexOf(']'));
+		return start >= 0 && end > start ? text.substring(start, end + 1) : text.strip();
+	}
+
+	private int indexOfFirst(String text, char first, char second) {
+		int firstIndex = text.indexOf(first);
+		int secondIndex = text.indexOf(second);
+		if (firstIndex < 0 || secondIndex < 0) {
+			return Math.max(firstIndex, secondIndex);
+		}
+		return Math.min(firstIndex, secondIndex);
+	}
+
+	private Optional<QuizResponse> toQuiz(JsonNode item) {
+		String question = textOf(item.get("question"));
+		String answer = textOf(item.get("answer"));
+		List<String> options = optionsOf(item.get("options"));
+		if (question == null || answer == null) {
+			return drop(item, "missing question or answer");
+		}
+
+		QuizType quizType = quizTypeOf(textOf(item.get("quizType")), options, answer);
+		Optional<QuizResponse> quiz = quizType == QuizType.OX
+			? toOxQuiz(question, answer)
+			: toMultipleChoiceQuiz(question, options, answer);
+		if (quiz.isEmpty()) {
+			return drop(item, "answer does not match quiz type rules");
+		}
+		if (isRepaired(item, quiz.get())) {
+			repairedCount.increment();
+		}
+		return quiz;
+	}
+
+	// 유형이 없거나 알 수 없으면 보기 유무와 정답 형태로 추론합니다.
+	private QuizType quizTypeOf(String quizType, List<String> options, String answer) {
+		if (quizType != null) {
+			String normalized = quizType.toUpperCase(Locale.ROOT).replaceAll("[^A-Z]", "");
+			if (normalized.equals("OX") || normalized.equals("TRUEFALSE")) {
+				return QuizType.OX;
+			}
+			if (normalized.startsWith("MULTIPLE") || normalized.equals("MCQ") || normalized.equals("MC")) {
+				return QuizType.MULTIPLE_CHOICE;
+			}
+		}
+		return options.size() >= 2 && toOxAnswer(answer) == null ? QuizType.MULTIPLE_CHOICE : QuizType.OX;
+	}
+
+	private Optional<QuizResponse> toOxQuiz(String question, String answer) {
+		String oxAnswer = toOxAnswer(answer);
+		return oxAnswer == null
+			? Optional.empty()
+			: Optional.of(new QuizResponse(question, QuizType.OX, List.of(), oxAnswer));
+	}
+
+	private String toOxAnswer(String answer) {
+		String normalized = answer.strip().toUpperCase(Locale.ROOT).replaceAll("[.!\"']", "");
+		if (TRUE_ANSWERS.contains(normalized)) {
+			return "O";
+		}
+		if (FALSE_ANSWERS.contains(normalized)) {
+			return "X";
+		}
+		return null;
+	}
+
+	/**
+	 * 정답을 보기 중 하나로 맞춥니다.
+	 * 정확히 일치 -> 대소문자/공백 무시 일치 -> 보기 기호(A, B) 또는 번호(1부터) -> 기호를 뗀 본문 일치 순으로 시도합니다.
+	 */
+	private Optional<QuizResponse> toMultipleChoiceQuiz(String question, List<String> options, String answer) {
+		if (options.size() < 2) {
+			return Optional.empty();
+		}
+		int index = options.indexOf(answer);
+		if (index < 0) {
+			index = indexIgnoringCase(options, answer);
+		}
+		if (index < 0) {
+			index = indexOfLabel(options, answer);
+		}
+		if (index < 0) {
+			Matcher prefixed = OPTION_PREFIX.matcher(answer);
+			if (prefixed.matches()) {
+				index = indexIgnoringCase(options, prefixed.group(2));
+			}
+		}
+		return index < 0
+			? Optional.empty()
+			: Optional.of(new QuizResponse(question, QuizType.MULTIPLE_CHOICE, options, options.get(index)));
+	}
+
+	private int indexIgnoringCase(List<String> options, String answer) {
+		String normalized = normalize(answer);
+		for (int index = 0; index < options.size(); index++) {
+			if (normalize(options.get(index)).equals(normalized)) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	private int indexOfLabel(List<String> options, String answer) {
+		String label = answer.strip();
+		Matcher letter = OPTION_LETTER.matcher(label);
+		if (letter.matches()) {
+			int index = Character.toUpperCase(letter.group(1).charAt(0)) - 'A';
+			return index < options.size() ? index : -1;
+		}
+		if (label.matches("\\d{1,2}")) {
+			int index = Integer.parseInt(label) - 1;
+			return index >= 0 && index < options.size() ? index : -1;
+		}
+		return -1;
+	}
+
+	// 빈 보기와 중복 보기를 제거합니다.
+	private List<String> optionsOf(JsonNode node) {
+		if (node == null || !node.isArray()) {
+			return List.of();
+		}
+		Set<String> options = new LinkedHashSet<>();
+		for (JsonNode option : node) {
+			String text = textOf(option);
+			if (text != null) {
+				options.add(text);
+			}
+		}
+		return List.copyOf(options);
+	}
+
+	private String textOf(JsonNode node) {
+		if (node == null || node.isNull() || node.isContainerNode()) {
+			return null;
+		}
+		String text = node.asText().strip();
+		return text.isEmpty() ? null : text;
+	}
+
+	private String normalize(String value) {
+		return value.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+
+	private boolean isRepaired(JsonNode item, QuizResponse quiz) {
+		return !quiz.answer().equals(item.path("answer").asText())
+			|| !quiz.quizType().name().equals(item.path("quizType").asText())
+			|| quiz.options().size() != item.path("options").size();
+	}
+
+	private Optional<QuizResponse> drop(JsonNode item, String reason) {
+		droppedCount.increment();
+		log.debug("Dropping AI quiz item ({}): {}", reason, item);
+		return Optional.empty();
+	}
+}
@@ -0,0 +1,6 @@
+package com.example.demo.domain.ai.prompt;
+
+public enum SystemPromptVariant {
+	FULL,    // 규칙 설명과 예시를 모두 포함한 기본 프롬프트
+	COMPACT  // 출력 형식과 핵심 규칙만 남긴 짧은 프롬프트 (입력 토큰 절감)
+}
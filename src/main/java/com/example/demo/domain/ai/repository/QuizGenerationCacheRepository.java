@@ -0,0 +1,8 @@
+package com.example.demo.domain.ai.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.demo.domain.ai.entity.QuizGenerationCacheEntry;
+
+public interface QuizGenerationCacheRepository extends JpaRepository<QuizGenerationCacheEntry, String> {
+}
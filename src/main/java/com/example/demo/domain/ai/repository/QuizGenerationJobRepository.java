@@ -0,0 +1,70 @@
+package com.example.demo.domain.ai.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.common.error.ErrorCode;
+import com.example.demo.domain.ai.entity.QuizGenerationJob;
+import com.example.demo.domain.ai.entity.QuizGenerationStatus;
+
+public interface QuizGenerationJobRepository extends JpaRepository<QuizGenerationJob, String> {
+
+	List<QuizGenerationJob> findByOwnerAndStatusIn(String owner, Collection<QuizGenerationStatus> statuses);
+
+	/**
+	 * 주인이 없거나 lease가 만료된 미완료 작업을 한 문장으로 가져옵니다.
+	 * 여러 인스턴스가 동시에 실행해도 행마다 한 인스턴스만 owner로 기록됩니다.
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE QuizGenerationJob j SET j.owner = :owner, j.updatedAt = :now "
+		+ "WHERE j.status IN :statuses AND (j.owner IS NULL OR j.updatedAt < :staleBefore)")
+	int claimUnfinishedJobs(@Param("owner") String owner, @Param("statuses") Collection<QuizGenerationStatus> statuses,
+		@Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+	/**
+	 * 이 인스턴스가 맡은 미완료 작업의 lease를 연장합니다. (실행 중 다른 인스턴스가 가져가지 않도록)
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE QuizGenerationJob j SET j.updatedAt = :now "
+		+ "WHERE j.id IN :ids AND j.owner = :owner AND j.status IN :statuses")
+	int renewLeases(@Param("ids") Collection<String> ids, @Param("owner") String owner,
+		@Param("statuses") Collection<QuizGenerationStatus> statuses, @Param("now") LocalDateTime now);
+
+	/**
+	 * 아래 상태 변경은 모두 owner가 그대로인 미완료 작업에만 적용됩니다.
+	 * 0을 반환하면 lease가 만료되어 다른 인스턴스가 작업을 가져간 것이므로 결과를 기록하지 않습니다.
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE QuizGenerationJob j SET j.status = com.example.demo.domain.ai.entity.QuizGenerationStatus.RUNNING, "
+		+ "j.updatedAt = :now WHERE j.id = :id AND j.owner = :owner AND j.status IN :statuses")
+	int markRunning(@Param("id") String id, @Param("owner") String owner,
+		@Param("statuses") Collection<QuizGenerationStatus> statuses, @Param("now") LocalDateTime now);
+
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE QuizGenerationJob j SET j.status = com.example.demo.domain.ai.entity.QuizGenerationStatus.COMPLETED, "
+		+ "j.resultJson = :resultJson, j.updatedAt = :now "
+		+ "WHERE j.id = :id AND j.owner = :owner AND j.status IN :statuses")
+	int complete(@Param("id") String id, @Param("owner") String owner,
+		@Param("statuses") Collection<QuizGenerationStatus> statuses, @Param("resultJson") String resultJson,
+		@Param("now") LocalDateTime now);
+
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE QuizGenerationJob j SET j.status = com.example.demo.domain.ai.entity.QuizGenerationStatus.FAILED, "
+		+ "j.errorCode = :errorCode, j.updatedAt = :now "
+		+ "WHERE j.id = :id AND j.owner = :owner AND j.status IN :statuses")
+	int fail(@Param("id") String id, @Param("owner") String owner,
+		@Param("statuses") Collection<QuizGenerationStatus> statuses, @Param("errorCode") ErrorCode errorCode,
+		@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,62 @@
+package com.example.demo.domain.ai.resilience;
+
+/**
+ * 연속 실패가 failureThreshold에 도달하면 openMillis 동안 호출을 막는 서킷 브레이커
+ * 열린 시간이 지나면 시험 호출 하나만 허용하고(HALF_OPEN), 그 결과로 닫거나 다시 엽니다.
+ */
+class CircuitBreaker {
+
+	enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final int failureThreshold;
+	private final long openMillis;
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedAtMillis;
+
+	CircuitBreaker(int failureThreshold, long openMillis) {
+		this.failureThreshold = failureThreshold;
+		this.openMillis = openMillis;
+	}
+
+	synchronized boolean tryAcquire() {
+		if (state == State.CLOSED) {
+			return true;
+		}
+		if (state == State.OPEN && System.currentTimeMillis() - openedAtMillis >= openMillis) {
+			state = State.HALF_OPEN;
+			return true;
+		}
+		return false;
+	}
+
+	synchronized void recordSuccess() {
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+	}
+
+	synchronized void recordFailure() {
+		consecutiveFailures++;
+		if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+			state = State.OPEN;
+			openedAtMillis = System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * 결과 없이 끝난 호출(취소, 인터럽트)의 허가를 돌려놓습니다.
+	 * 시험 호출이었다면 열린 시간은 이미 지났으므로 다음 호출이 바로 다시 시험 호출이 됩니다.
+	 */
+	synchronized void releaseProbe() {
+		if (state == State.HALF_OPEN) {
+			state = State.OPEN;
+		}
+	}
+
+	synchronized State getState() {
+		return state;
+	}
+}
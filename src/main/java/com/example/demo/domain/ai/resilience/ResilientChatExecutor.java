@@ -0,0 +1,261 @@
+package com.example.demo.domain.ai.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import com.example.demo.common.error.ErrorCode;
+import com.example.demo.common.error.exception.AppException;
+import com.example.demo.common.property.AIProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+/**
+ * 모델 호출 보호 계층
+ * 동시 호출 수 제한(bulkhead) -> 분당 요청/토큰 제한 -> 서킷 브레이커 -> 호출 시간 제한 순으로 적용하고,
+ * 일시적 실패(429, 5xx, 네트워크 오류, 시간 초과)는 지터를 준 지수 백오프로 재시도합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResilientChatExecutor {
+
+	private static final String RATE_LIMITED_STATUS = "429";
+
+	private final AIProperties aiProperties;
+
+	private final ExecutorService callExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private Semaphore bulkhead;
+	private TokenBucket requestBucket;
+	private TokenBucket tokenBucket;
+	private CircuitBreaker circuitBreaker;
+
+	@PostConstruct
+	void init() {
+		bulkhead = new Semaphore(aiProperties.getMaxConcurrentCalls());
+		requestBucket = new TokenBucket(aiProperties.getRequestsPerMinute());
+		tokenBucket = new TokenBucket(aiProperties.getTokensPerMinute());
+		circuitBreaker = new CircuitBreaker(aiProperties.getCircuitFailureThreshold(),
+			aiProperties.getCircuitOpenMillis());
+	}
+
+	@PreDestroy
+	void shutdown() {
+		callExecutor.shutdownNow();
+	}
+
+	/**
+	 * 모델 호출을 보호 계층 안에서 실행합니다.
+	 *
+	 * @param estimatedTokens 분당 토큰 제한에 사용할 예상 토큰 수 (프롬프트 + 응답)
+	 * @throws AppException 허용량을 기다리지 못한 경우 AI_RATE_LIMITED_EXCEPTION,
+	 *                      서킷이 열려 있거나 재시도 후에도 실패한 경우 AI_UNAVAILABLE_EXCEPTION
+	 */
+	public <T> T execute(long estimatedTokens, Supplier<T> call) {
+		int maxRetries = aiProperties.getMaxRetries();
+		for (int attempt = 0; ; attempt++) {
+			try {
+				return executeOnce(estimatedTokens, call);
+			} catch (TransientCallException e) {
+				if (attempt >= maxRetries) {
+					log.warn("AI call failed after {} attempts", attempt + 1, e.getCause());
+					throw new AppException(ErrorCode.AI_UNAVAILABLE_EXCEPTION);
+				}
+				sleepBackoff(attempt);
+			}
+		}
+	}
+
+	/**
+	 * 스트리밍 호출에 같은 보호 계층을 적용합니다.
+	 * 이미 일부 항목을 내보냈을 수 있으므로 재시도하지 않고, callTimeoutMillis는 항목 사이 최대 대기 시간으로 사용합니다.
+	 * 구독이 취소되어 결과 없이 끝나면 서킷 브레이커의 시험 호출 허가를 돌려놓습니다.
+	 */
+	public <T> Flux<T> executeStream(long estimatedTokens, Supplier<Flux<T>> call) {
+		return Flux.defer(() -> {
+			acquirePermits(estimatedTokens);
+			Flux<T> response;
+			try {
+				response = call.get();
+			} catch (RuntimeException e) {
+				// 구독 전에 실패하면 doFinally가 붙지 않으므로 여기서 결과 기록과 허가 반환을 처리합니다.
+				recordResult(isTransient(e));
+				bulkhead.release();
+				throw e;
+			}
+			AtomicBoolean recorded = new AtomicBoolean();
+			return response
+				.timeout(Duration.ofMillis(aiProperties.getCallTimeoutMillis()))
+				.doOnComplete(() -> {
+					recorded.set(true);
+					circuitBreaker.recordSuccess();
+				})
+				.doOnError(error -> {
+					recorded.set(true);
+					recordResult(isTransient(error));
+				})
+				.doFinally(signal -> {
+					if (!recorded.get()) {
+						circuitBreaker.releaseProbe();
+					}
+					bulkhead.release();
+				});
+		});
+	}
+
+	private <T> T executeOnce(long estimatedTokens, Supplier<T> call) {
+		acquirePermits(estimatedTokens);
+		// bulkhead 허가는 실제 호출 스레드가 끝날 때 반환합니다. 시간 초과 후 cancel(true)로도 멈추지 않는
+		// 블로킹 HTTP 호출이 허가 없이 계속 실행되면 동시 호출 수 제한이 무너지기 때문입니다.
+		// 호출이 시작되지 못한 경우(시작 전 취소, 실행 거부)에는 먼저 가져간 쪽이 한 번만 반환합니다.
+		AtomicBoolean permitOwned = new AtomicBoolean();
+		boolean recorded = false;
+		try {
+			T result = awaitResult(callExecutor.submit(() -> {
+				if (!permitOwned.compareAndSet(false, true)) {
+					return null;
+				}
+				try {
+					return call.get();
+				} finally {
+					bulkhead.release();
+				}
+			}));
+			circuitBreaker.recordSuccess();
+			recorded = true;
+			return result;
+		} catch (TimeoutException e) {
+			circuitBreaker.recordFailure();
+			recorded = true;
+			throw new TransientCallException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			boolean transientFailure = isTransient(cause);
+			recordResult(transientFailure);
+			recorded = true;
+			if (transientFailure) {
+				throw new TransientCallException(cause);
+			}
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException("AI call failed", cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for AI call", e);
+		} finally {
+			// 인터럽트 등으로 결과 없이 끝나면 시험 호출 허가를 돌려놓아 HALF_OPEN에 머물지 않게 합니다.
+			if (!recorded) {
+				circuitBreaker.releaseProbe();
+			}
+			if (permitOwned.compareAndSet(false, true)) {
+				bulkhead.release();
+			}
+		}
+	}
+
+	// 시간 초과나 인터럽트로 기다리기를 그만두면 호출 스레드도 중단시킵니다.
+	private <T> T awaitResult(Future<T> future) throws TimeoutException, ExecutionException, InterruptedException {
+		try {
+			return future.get(aiProperties.getCallTimeoutMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException | InterruptedException e) {
+			future.cancel(true);
+			throw e;
+		}
+	}
+
+	// 성공 시 bulkhead 허가를 가진 상태로 반환합니다. (호출 후 반드시 release)
+	private void acquirePermits(long estimatedTokens) {
+		try {
+			if (!bulkhead.tryAcquire(aiProperties.getBulkheadWaitMillis(), TimeUnit.MILLISECONDS)) {
+				throw new AppException(ErrorCode.AI_RATE_LIMITED_EXCEPTION);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for AI call permits", e);
+		}
+
+		boolean admitted = false;
+		try {
+			long rateLimitWaitMillis = aiProperties.getRateLimitWaitMillis();
+			if (!requestBucket.acquire(1, rateLimitWaitMillis)
+				|| !tokenBucket.acquire(estimatedTokens, rateLimitWaitMillis)) {
+				throw new AppException(ErrorCode.AI_RATE_LIMITED_EXCEPTION);
+			}
+			// 서킷 브레이커는 실제 호출 직전에 확인해, 시험 호출 허가가 호출 없이 버려지지 않게 합니다.
+			if (!circuitBreaker.tryAcquire()) {
+				throw new AppException(ErrorCode.AI_UNAVAILABLE_EXCEPTION);
+			}
+			admitted = true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for AI call permits", e);
+		} finally {
+			if (!admitted) {
+				bulkhead.release();
+			}
+		}
+	}
+
+	// 상대 서버가 응답하는 오류(4xx 등)는 서킷 실패로 세지 않습니다.
+	private void recordResult(boolean transientFailure) {
+		if (transientFailure) {
+			circuitBreaker.recordFailure();
+		} else {
+			circuitBreaker.recordSuccess();
+		}
+	}
+
+	private boolean isTransient(Throwable error) {
+		if (error instanceof TransientAiException || error instanceof ResourceAccessException
+			|| error instanceof TimeoutException) {
+			return true;
+		}
+		// Spring AI는 4xx를 NonTransientAiException("429 - ...")으로 감싸서 던집니다.
+		if (error instanceof NonTransientAiException && error.getMessage() != null) {
+			return error.getMessage().startsWith(RATE_LIMITED_STATUS);
+		}
+		if (error instanceof RestClientResponseException responseException) {
+			int status = responseException.getStatusCode().value();
+			return status == 429 || responseException.getStatusCode().is5xxServerError();
+		}
+		return false;
+	}
+
+	// full jitter: 0 ~ min(maxDelay, baseDelay * 2^attempt) 사이에서 무작위로 기다립니다.
+	private void sleepBackoff(int attempt) {
+		long exponentialDelay = aiProperties.getRetryBaseDelayMillis() << Math.min(attempt, 20);
+		long cappedDelay = Math.min(aiProperties.getRetryMaxDelayMillis(), exponentialDelay);
+		try {
+			Thread.sleep(ThreadLocalRandom.current().nextLong(cappedDelay + 1));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted during AI call retry backoff", e);
+		}
+	}
+
+	private static class TransientCallException extends RuntimeException {
+		TransientCallException(Throwable cause) {
+			super(cause);
+		}
+	}
+}
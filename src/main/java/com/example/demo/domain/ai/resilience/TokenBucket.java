@@ -0,0 +1,58 @@
+package com.example.demo.domain.ai.resilience;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분당 허용량을 연속적으로 채우는 토큰 버킷
+ * 버킷 크기는 분당 허용량과 같아서, 쉬고 있던 만큼 최대 1분치까지 몰아서 사용할 수 있습니다.
+ */
+class TokenBucket {
+
+	private final double capacity;
+	private final double refillPerNano;
+
+	private double available;
+	private long lastRefillNanos;
+
+	TokenBucket(long perMinute) {
+		if (perMinute <= 0) {
+			throw new IllegalArgumentException("perMinute must be positive: " + perMinute);
+		}
+		this.capacity = perMinute;
+		this.refillPerNano = perMinute / (double)TimeUnit.MINUTES.toNanos(1);
+		this.available = perMinute;
+		this.lastRefillNanos = System.nanoTime();
+	}
+
+	/**
+	 * permits만큼 꺼냅니다. 부족하면 채워질 때까지 최대 maxWaitMillis 기다립니다.
+	 * 한 번에 버킷 크기보다 많이 요청하면 버킷 크기만큼만 꺼냅니다.
+	 *
+	 * @return maxWaitMillis 안에 꺼내지 못하면 false
+	 */
+	boolean acquire(long permits, long maxWaitMillis) throws InterruptedException {
+		double requested = Math.min(permits, capacity);
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+		while (true) {
+			long waitNanos;
+			synchronized (this) {
+				refill();
+				if (available >= requested) {
+					available -= requested;
+					return true;
+				}
+				waitNanos = (long)Math.ceil((requested - available) / refillPerNano);
+			}
+			if (System.nanoTime() + waitNanos > deadline) {
+				return false;
+			}
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+
+	private void refill() {
+		long now = System.nanoTime();
+		available = Math.min(capacity, available + (now - lastRefillNanos) * refillPerNano);
+		lastRefillNanos = now;
+	}
+}
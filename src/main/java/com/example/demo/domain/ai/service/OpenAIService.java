@@ -1,18 +1,40 @@
 package com.example.demo.domain.ai.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.metadata.Usage;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.stereotype.Service;
 
+import com.example.demo.common.cache.CacheStats;
+import com.example.demo.common.concurrent.SingleFlight;
+import com.example.demo.common.concurrent.SingleFlightStats;
 import com.example.demo.common.property.AIProperties;
+import com.example.demo.domain.ai.cache.QuizGenerationCache;
+import com.example.demo.domain.ai.parser.QuizItemStreamParser;
+import com.example.demo.domain.ai.parser.QuizOutputParser;
+import com.example.demo.domain.ai.prompt.SystemPromptVariant;
+import com.example.demo.domain.ai.resilience.ResilientChatExecutor;
+import com.example.demo.domain.ai.usage.TokenUsageRecorder;
+import com.example.demo.domain.ai.usage.TokenUsageStats;
+import com.example.demo.domain.ai.util.ContentCompactionUtil;
+import com.example.demo.domain.ai.util.QuizGenerationKeyUtil;
+import com.example.demo.domain.ai.util.TokenEstimateUtil;
 import com.example.demo.web.ai.dto.response.QuizListResponse;
+import com.example.demo.web.ai.dto.response.QuizResponse;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +42,18 @@ public class OpenAIService {
 
 	private final AIProperties aiProperties;
 	private final ChatClient chatClient;
+	private final QuizGenerationCache quizGenerationCache;
+	private final QuizOutputParser quizOutputParser;
+	private final ResilientChatExecutor resilientChatExecutor;
+	private final TokenUsageRecorder tokenUsageRecorder;
+
+	// 같은 입력으로 동시에 들어온 생성 요청은 모델 호출 하나를 공유합니다.
+	// 호출은 요청 스레드가 아닌 전용 가상 스레드에서 실행되므로, 한 요청이 취소돼도 다른 대기자는 결과를 받습니다.
+	private final ExecutorService generationExecutor = Executors.newVirtualThreadPerTaskExecutor();
+	private final SingleFlight<String, QuizListResponse> generationFlight = new SingleFlight<>(generationExecutor);
+
+	// SYSTEM_PROMPT(또는 COMPACT_SYSTEM_PROMPT)를 수정하면 함께 올려 이전 프롬프트로 생성한 캐시를 재사용하지 않도록 합니다.
+	private static final String SYSTEM_PROMPT_VERSION = "v2";
 
 	private final String SYSTEM_PROMPT = "You are an expert Quiz Generator, specializing in extracting key information from provided text and generating effective quizzes in a structured JSON format. Your goal is to create prompts that facilitate active recall and learning.\n"
 		+ "\n"
@@ -109,25 +143,167 @@ public class OpenAIService {
 		+ "}\n"
 		+ "```";
 
-	public QuizListResponse generateQuiz(String title, String content) {
+	// SystemPromptVariant.COMPACT: 출력 형식과 핵심 규칙만 남긴 프롬프트
+	private static final String COMPACT_SYSTEM_PROMPT = "Generate quizzes from the given article. "
+		+ "Reply with only a JSON object: {\"qna\":[{\"question\":string,\"quizType\":\"MULTIPLE_CHOICE\"|\"OX\","
+		+ "\"options\":[string],\"answer\":string}]}.\n"
+		+ "Rules:\n"
+		+ "- Cover every significant, learnable fact in the text; mix MULTIPLE_CHOICE and OX.\n"
+		+ "- Each question must be self-contained and unambiguous.\n"
+		+ "- MULTIPLE_CHOICE: 3-4 plausible options, exactly one correct; answer must exactly equal one option.\n"
+		+ "- OX: question is a statement; options is []; answer is \"O\" if true, \"X\" if false.";
+
+	/**
+	 * ContentCompactionUtil.compact로 정리된 본문으로 퀴즈를 생성합니다. (여기서는 토큰 예산만 적용)
+	 * 원문은 QuizGenerationPipeline이 한 번만 정리하고 조각으로 나눠 넘깁니다.
+	 */
+	public QuizListResponse generateQuizFromCompacted(String title, String compactedContent) {
+		PreparedContent prepared = trimToTokenBudget(compactedContent);
+		String cacheKey = generationCacheKey(title, prepared.text());
+		if (!aiProperties.isGenerationCacheEnabled()) {
+			return generationFlight.get(cacheKey, () -> requestQuiz(title, prepared));
+		}
+
+		// 결과는 공유 실행이 끝나기(inFlight에서 빠지기) 전에 캐시에 넣으므로, 캐시를 다시 확인하지 않습니다.
+		return quizGenerationCache.get(cacheKey).orElseGet(() -> generationFlight.get(cacheKey, () -> {
+			QuizListResponse response = requestQuiz(title, prepared);
+			if (!response.qna().isEmpty()) {
+				quizGenerationCache.put(cacheKey, aiProperties.getModel(), response);
+			}
+			return response;
+		}));
+	}
+
+	/**
+	 * 퀴즈를 스트리밍으로 생성합니다. qna 배열의 항목이 완성될 때마다 하나씩 내보냅니다.
+	 * 캐시에 결과가 있으면 모델을 호출하지 않고 캐시된 항목을 그대로 내보냅니다.
+	 */
+	public Flux<QuizResponse> streamQuiz(String title, String content) {
+		PreparedContent prepared = trimToTokenBudget(ContentCompactionUtil.compact(content));
+		if (!aiProperties.isGenerationCacheEnabled()) {
+			return requestQuizStream(title, prepared);
+		}
+
+		String cacheKey = generationCacheKey(title, prepared.text());
+		return Flux.defer(() -> quizGenerationCache.get(cacheKey)
+			.map(cached -> Flux.fromIterable(cached.qna()))
+			.orElseGet(() -> {
+				List<QuizResponse> generated = new ArrayList<>();
+				return requestQuizStream(title, prepared)
+					.doOnNext(generated::add)
+					.doOnComplete(() -> {
+						if (!generated.isEmpty()) {
+							quizGenerationCache.put(cacheKey, aiProperties.getModel(),
+								new QuizListResponse(List.copyOf(generated)));
+						}
+					});
+			}));
+	}
+
+	public CacheStats getGenerationCacheStats() {
+		return quizGenerationCache.getStats();
+	}
+
+	public TokenUsageStats getTokenUsageStats() {
+		return tokenUsageRecorder.getStats(quizOutputParser.getRepairedCount(), quizOutputParser.getDroppedCount());
+	}
+
+	public SingleFlightStats getGenerationFlightStats() {
+		return generationFlight.stats();
+	}
+
+	@PreDestroy
+	void shutdown() {
+		generationExecutor.shutdownNow();
+	}
+
+	// 정리된 본문에서 토큰 예산을 넘는 뒷부분을 잘라냅니다. (캐시 키도 정리된 본문 기준)
+	private PreparedContent trimToTokenBudget(String compacted) {
+		String trimmed = ContentCompactionUtil.trimToTokenBudget(compacted, aiProperties.getContentTokenBudget());
+		return new PreparedContent(trimmed, trimmed != null && !trimmed.equals(compacted));
+	}
+
+	private String generationCacheKey(String title, String content) {
+		return QuizGenerationKeyUtil.hash(aiProperties.getModel(), aiProperties.getTemperature(),
+			SYSTEM_PROMPT_VERSION + ":" + aiProperties.getSystemPromptVariant(), title, content);
+	}
+
+	private QuizListResponse requestQuiz(String title, PreparedContent content) {
+		long promptTokens = estimatePromptTokens(title, content.text());
+		tokenUsageRecorder.recordRequest(promptTokens, content.trimmed());
+
+		return resilientChatExecutor.execute(promptTokens + aiProperties.getExpectedCompletionTokens(), () -> {
+			ChatResponse response = chatClient.prompt(buildPrompt(title, content.text(), false))
+				.call()
+				.chatResponse();
+			tokenUsageRecorder.recordUsage(usageOf(response));
+			// entity() 변환은 형식 오류 하나에도 전체가 실패하므로, 직접 읽으면서 항목별로 보정합니다.
+			return quizOutputParser.parse(response == null ? null : textOf(response));
+		});
+	}
+
+	private Flux<QuizResponse> requestQuizStream(String title, PreparedContent content) {
+		long promptTokens = estimatePromptTokens(title, content.text());
+		return resilientChatExecutor.executeStream(promptTokens + aiProperties.getExpectedCompletionTokens(), () -> {
+			tokenUsageRecorder.recordRequest(promptTokens, content.trimmed());
+			QuizItemStreamParser parser = new QuizItemStreamParser(quizOutputParser);
+			// 사용량은 마지막 응답 조각에만 실려 오므로 스트림이 끝난 뒤 한 번만 기록합니다.
+			AtomicReference<Usage> lastUsage = new AtomicReference<>();
+			return chatClient.prompt(buildPrompt(title, content.text(), true))
+				.stream()
+				.chatResponse()
+				.doOnNext(chatResponse -> {
+					Usage usage = usageOf(chatResponse);
+					if (usage != null && usage.getTotalTokens() != null && usage.getTotalTokens() > 0) {
+						lastUsage.set(usage);
+					}
+				})
+				.doOnComplete(() -> tokenUsageRecorder.recordUsage(lastUsage.get()))
+				.mapNotNull(this::textOf)
+				.concatMapIterable(parser::feed);
+		});
+	}
+
+	private long estimatePromptTokens(String title, String content) {
+		return TokenEstimateUtil.estimate(systemPrompt()) + TokenEstimateUtil.estimate(title)
+			+ TokenEstimateUtil.estimate(content);
+	}
+
+	private Usage usageOf(ChatResponse chatResponse) {
+		return chatResponse == null || chatResponse.getMetadata() == null ? null : chatResponse.getMetadata().getUsage();
+	}
+
+	private String textOf(ChatResponse chatResponse) {
+		if (chatResponse.getResult() == null || chatResponse.getResult().getOutput() == null) {
+			return null;
+		}
+		return chatResponse.getResult().getOutput().getText();
+	}
+
+	private String systemPrompt() {
+		return aiProperties.getSystemPromptVariant() == SystemPromptVariant.COMPACT
+			? COMPACT_SYSTEM_PROMPT
+			: SYSTEM_PROMPT;
+	}
+
+	private Prompt buildPrompt(String title, String content, boolean streaming) {
 
 		// 메시지
-		SystemMessage systemMessage = new SystemMessage(SYSTEM_PROMPT);
+		SystemMessage systemMessage = new SystemMessage(systemPrompt());
 		UserMessage userMessage = new UserMessage(title + "\n" + content);
 		// AssistantMessage assistantMessage = new AssistantMessage("");
 
-		// 옵션
+		// 옵션 (스트리밍은 마지막 조각에 토큰 사용량을 포함하도록 요청)
 		OpenAiChatOptions options = OpenAiChatOptions.builder()
 			.model(aiProperties.getModel())
 			.temperature(aiProperties.getTemperature())
+			.streamUsage(streaming)
 			.build();
 
 		// 프롬프트
-		Prompt prompt = new Prompt(List.of(systemMessage, userMessage), options);
+		return new Prompt(List.of(systemMessage, userMessage), options);
+	}
 
-		// 요청 및 응답
-		return chatClient.prompt(prompt)
-			.call()
-			.entity(QuizListResponse.class);
+	private record PreparedContent(String text, boolean trimmed) {
 	}
 }
@@ -0,0 +1,256 @@
+package com.example.demo.domain.ai.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.common.error.ErrorCode;
+import com.example.demo.common.error.exception.AppException;
+import com.example.demo.common.property.AIProperties;
+import com.example.demo.domain.ai.entity.QuizGenerationJob;
+import com.example.demo.domain.ai.entity.QuizGenerationStatus;
+import com.example.demo.domain.ai.repository.QuizGenerationJobRepository;
+import com.example.demo.web.ai.dto.response.QuizGenerationJobResponse;
+import com.example.demo.web.ai.dto.response.QuizListResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 퀴즈 생성을 서블릿 스레드가 아닌 전용 스레드 풀에서 처리하는 작업 서비스
+ * 대기열이 가득 차면 429로 거절하고, 미완료 작업은 재시작 시 다시 실행합니다.
+ * 작업은 owner(인스턴스 id)로 선점하고 실행 중에는 lease를 주기적으로 연장하므로, 여러 인스턴스가 같은 작업을 동시에 재실행하지 않습니다.
+ * 상태 변경은 owner가 그대로인 경우에만 기록하여, lease를 잃은 인스턴스가 다른 인스턴스의 결과를 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizGenerationJobService {
+
+	private final QuizGenerationPipeline quizGenerationPipeline;
+	private final QuizGenerationJobRepository quizGenerationJobRepository;
+	private final AIProperties aiProperties;
+	private final ObjectMapper objectMapper;
+
+	private static final List<QuizGenerationStatus> UNFINISHED_STATUSES =
+		List.of(QuizGenerationStatus.PENDING, QuizGenerationStatus.RUNNING);
+
+	// lease 만료 전에 여러 번 연장하도록 lease의 1/3 주기로 갱신
+	private static final int LEASE_RENEWALS_PER_LEASE = 3;
+
+	// 이 인스턴스를 구분하는 id (재시작하면 새 id를 사용)
+	private final String instanceId = UUID.randomUUID().toString();
+
+	// 롱폴링 대기용 (이 인스턴스에서 실행 중인 작업만)
+	private final Map<String, CompletableFuture<Void>> runningJobs = new ConcurrentHashMap<>();
+
+	private ThreadPoolExecutor jobExecutor;
+	private ScheduledExecutorService claimExecutor;
+
+	@PostConstruct
+	void initExecutor() {
+		AtomicInteger threadNumber = new AtomicInteger();
+		jobExecutor = new ThreadPoolExecutor(
+			aiProperties.getJobPoolSize(),
+			aiProperties.getJobPoolSize(),
+			0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(aiProperties.getJobQueueCapacity()),
+			runnable -> new Thread(runnable, "quiz-generation-" + threadNumber.incrementAndGet()),
+			new ThreadPoolExecutor.AbortPolicy());
+		claimExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "quiz-generation-claimer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * 퀴즈 생성 작업을 등록하고 즉시 작업 id를 반환합니다.
+	 *
+	 * @throws AppException 대기열이 가득 찬 경우 AI_JOB_QUEUE_FULL_EXCEPTION
+	 */
+	public QuizGenerationJobResponse submitJob(String title, String content) {
+		if (jobExecutor.getQueue().remainingCapacity() == 0) {
+			throw new AppException(ErrorCode.AI_JOB_QUEUE_FULL_EXCEPTION);
+		}
+		QuizGenerationJob job = quizGenerationJobRepository.save(QuizGenerationJob.builder()
+			.id(UUID.randomUUID().toString())
+			.owner(instanceId)
+			.title(title)
+			.content(content)
+			.build());
+
+		try {
+			scheduleJob(job.getId());
+		} catch (RejectedExecutionException e) {
+			quizGenerationJobRepository.deleteById(job.getId());
+			throw new AppException(ErrorCode.AI_JOB_QUEUE_FULL_EXCEPTION);
+		}
+		return toResponse(job);
+	}
+
+	public QuizGenerationJobResponse getJob(String jobId) {
+		return toResponse(findJob(jobId));
+	}
+
+	/**
+	 * 작업이 끝나거나 waitSeconds가 지날 때까지 기다린 뒤 작업 상태를 반환합니다. (서블릿 스레드를 점유하지 않음)
+	 */
+	public CompletableFuture<QuizGenerationJobResponse> waitForJob(String jobId, long waitSeconds) {
+		QuizGenerationJobResponse current = getJob(jobId);
+		CompletableFuture<Void> runningJob = runningJobs.get(jobId);
+		if (current.status().isFinished() || runningJob == null || waitSeconds <= 0) {
+			return CompletableFuture.completedFuture(current);
+		}
+		long boundedWaitSeconds = Math.min(waitSeconds, aiProperties.getJobMaxWaitSeconds());
+		return runningJob.copy()
+			.completeOnTimeout(null, boundedWaitSeconds, TimeUnit.SECONDS)
+			.thenApply(ignored -> getJob(jobId));
+	}
+
+	/**
+	 * 주인이 없거나 lease가 만료된 미완료 작업(재시작 전 인스턴스나 중단된 인스턴스의 작업)을 선점하여 다시 실행합니다.
+	 * 재시작 직후에는 lease가 남은 작업이 있을 수 있으므로 lease 주기로 반복하고,
+	 * 이 인스턴스의 대기/실행 중인 작업은 그보다 짧은 주기로 lease를 연장합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void startResumingJobs() {
+		long lease = aiProperties.getJobClaimLease();
+		long renewInterval = Math.max(1, lease / LEASE_RENEWALS_PER_LEASE);
+		claimExecutor.scheduleWithFixedDelay(this::resumeUnfinishedJobs, 0, lease, TimeUnit.MILLISECONDS);
+		claimExecutor.scheduleWithFixedDelay(this::renewLeases, renewInterval, renewInterval, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		claimExecutor.shutdownNow();
+		jobExecutor.shutdownNow();
+	}
+
+	private void resumeUnfinishedJobs() {
+		try {
+			LocalDateTime now = LocalDateTime.now();
+			LocalDateTime staleBefore = now.minusNanos(TimeUnit.MILLISECONDS.toNanos(aiProperties.getJobClaimLease()));
+			int claimedCount = quizGenerationJobRepository.claimUnfinishedJobs(instanceId, UNFINISHED_STATUSES, now,
+				staleBefore);
+			if (claimedCount == 0) {
+				return;
+			}
+			log.info("Claimed unfinished quiz generation jobs: count={}, owner={}", claimedCount, instanceId);
+
+			for (QuizGenerationJob job : quizGenerationJobRepository.findByOwnerAndStatusIn(instanceId,
+				UNFINISHED_STATUSES)) {
+				if (runningJobs.containsKey(job.getId())) {
+					continue;
+				}
+				try {
+					scheduleJob(job.getId());
+				} catch (RejectedExecutionException e) {
+					log.warn("Quiz generation queue is full. Job will not be resumed: jobId={}", job.getId());
+					failJob(job.getId(), ErrorCode.AI_JOB_QUEUE_FULL_EXCEPTION);
+				}
+			}
+		} catch (RuntimeException e) {
+			// 스케줄러가 멈추지 않도록 다음 주기에 다시 시도합니다.
+			log.error("Failed to resume unfinished quiz generation jobs", e);
+		}
+	}
+
+	private void renewLeases() {
+		if (runningJobs.isEmpty()) {
+			return;
+		}
+		try {
+			quizGenerationJobRepository.renewLeases(List.copyOf(runningJobs.keySet()), instanceId, UNFINISHED_STATUSES,
+				LocalDateTime.now());
+		} catch (RuntimeException e) {
+			// 스케줄러가 멈추지 않도록 다음 주기에 다시 시도합니다. (lease가 만료되기 전까지 여러 번 기회가 있음)
+			log.error("Failed to renew quiz generation job leases: count={}", runningJobs.size(), e);
+		}
+	}
+
+	private void scheduleJob(String jobId) {
+		CompletableFuture<Void> runningJob = new CompletableFuture<>();
+		runningJobs.put(jobId, runningJob);
+		try {
+			jobExecutor.execute(() -> {
+				try {
+					runJob(jobId);
+				} finally {
+					runningJobs.remove(jobId);
+					runningJob.complete(null);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			runningJobs.remove(jobId);
+			throw e;
+		}
+	}
+
+	private void runJob(String jobId) {
+		if (quizGenerationJobRepository.markRunning(jobId, instanceId, UNFINISHED_STATUSES, LocalDateTime.now()) == 0) {
+			log.warn("Quiz generation job is owned by another instance. Skipping: jobId={}", jobId);
+			return;
+		}
+		QuizGenerationJob job = findJob(jobId);
+
+		try {
+			QuizListResponse result = quizGenerationPipeline.generateQuiz(job.getTitle(), job.getContent());
+			if (quizGenerationJobRepository.complete(jobId, instanceId, UNFINISHED_STATUSES,
+				objectMapper.writeValueAsString(result), LocalDateTime.now()) == 0) {
+				log.warn("Lost quiz generation job lease before completion. Discarding result: jobId={}", jobId);
+			}
+		} catch (AppException e) {
+			log.error("Quiz generation job failed: jobId={}, errorCode={}", jobId, e.getErrorCode(), e);
+			failJob(jobId, e.getErrorCode());
+		} catch (RuntimeException | JsonProcessingException e) {
+			log.error("Quiz generation job failed: jobId={}", jobId, e);
+			failJob(jobId, ErrorCode.AI_GENERATION_FAILED_EXCEPTION);
+		}
+	}
+
+	private void failJob(String jobId, ErrorCode errorCode) {
+		if (quizGenerationJobRepository.fail(jobId, instanceId, UNFINISHED_STATUSES, errorCode,
+			LocalDateTime.now()) == 0) {
+			log.warn("Lost quiz generation job lease before failure was recorded: jobId={}", jobId);
+		}
+	}
+
+	private QuizGenerationJob findJob(String jobId) {
+		return quizGenerationJobRepository.findById(jobId)
+			.orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND_EXCEPTION));
+	}
+
+	private QuizGenerationJobResponse toResponse(QuizGenerationJob job) {
+		return QuizGenerationJobResponse.of(job.getId(), job.getStatus(), readResult(job), job.getErrorCode());
+	}
+
+	private QuizListResponse readResult(QuizGenerationJob job) {
+		if (job.getResultJson() == null) {
+			return null;
+		}
+		try {
+			return objectMapper.readValue(job.getResultJson(), QuizListResponse.class);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Stored quiz generation result is not valid JSON: " + job.getId(), e);
+		}
+	}
+}
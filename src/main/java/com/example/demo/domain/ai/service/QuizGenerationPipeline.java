@@ -0,0 +1,105 @@
+package com.example.demo.domain.ai.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.stereotype.Service;
+
+import com.example.demo.common.property.AIProperties;
+import com.example.demo.domain.ai.util.ArticleChunkUtil;
+import com.example.demo.domain.ai.util.ContentCompactionUtil;
+import com.example.demo.web.ai.dto.response.QuizListResponse;
+import com.example.demo.web.ai.dto.response.QuizResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 긴 기사를 조각으로 나눠 조각별 퀴즈를 동시에 생성하고 하나로 합치는 파이프라인
+ * 짧은 기사는 나누지 않고 한 번만 호출합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuizGenerationPipeline {
+
+	private final OpenAIService openAIService;
+	private final AIProperties aiProperties;
+
+	public QuizListResponse generateQuiz(String title, String content) {
+		// 마크업을 먼저 걷어내야 조각 크기가 실제 본문 길이를 반영합니다. (정리는 여기서 한 번만)
+		String compacted = ContentCompactionUtil.compact(content);
+		List<String> chunks = ArticleChunkUtil.split(compacted, aiProperties.getChunkMaxChars());
+		if (chunks.size() <= 1) {
+			return openAIService.generateQuizFromCompacted(title, compacted);
+		}
+		return mergeQuizzes(generateChunkQuizzes(title, chunks));
+	}
+
+	// 가상 스레드로 조각별 호출을 동시에 보내되, 동시 호출 수는 chunkParallelism으로 제한합니다.
+	private List<QuizListResponse> generateChunkQuizzes(String title, List<String> chunks) {
+		Semaphore permits = new Semaphore(aiProperties.getChunkParallelism());
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<QuizListResponse>> futures = new ArrayList<>(chunks.size());
+			for (String chunk : chunks) {
+				futures.add(executor.submit(() -> {
+					permits.acquire();
+					try {
+						return openAIService.generateQuizFromCompacted(title, chunk);
+					} finally {
+						permits.release();
+					}
+				}));
+			}
+
+			List<QuizListResponse> responses = new ArrayList<>(chunks.size());
+			for (Future<QuizListResponse> future : futures) {
+				responses.add(awaitChunk(future, futures));
+			}
+			return responses;
+		}
+	}
+
+	private QuizListResponse awaitChunk(Future<QuizListResponse> future, List<Future<QuizListResponse>> futures) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			futures.forEach(pending -> pending.cancel(true));
+			throw new IllegalStateException("Interrupted while generating chunk quizzes", e);
+		} catch (ExecutionException e) {
+			// 한 조각이라도 실패하면 남은 호출을 취소하고 원래 예외를 그대로 전달합니다.
+			futures.forEach(pending -> pending.cancel(true));
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException("Chunk quiz generation failed", e.getCause());
+		}
+	}
+
+	// 조각 순서대로 합치고, 공백/대소문자만 다른 같은 질문은 처음 것만 남깁니다.
+	private QuizListResponse mergeQuizzes(List<QuizListResponse> responses) {
+		Map<String, QuizResponse> merged = new LinkedHashMap<>();
+		for (QuizListResponse response : responses) {
+			if (response == null || response.qna() == null) {
+				continue;
+			}
+			for (QuizResponse quiz : response.qna()) {
+				if (quiz != null && quiz.question() != null) {
+					merged.putIfAbsent(normalizeQuestion(quiz.question()), quiz);
+				}
+			}
+		}
+		return new QuizListResponse(List.copyOf(merged.values()));
+	}
+
+	private String normalizeQuestion(String question) {
+		return question.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,47 @@
+package com.example.demo.domain.ai.usage;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모델 호출별 입력/출력 토큰 사용량 집계
+ */
+@Slf4j
+@Component
+public class TokenUsageRecorder {
+
+	private final LongAdder callCount = new LongAdder();
+	private final LongAdder promptTokens = new LongAdder();
+	private final LongAdder completionTokens = new LongAdder();
+	private final LongAdder estimatedPromptTokens = new LongAdder();
+	private final LongAdder trimmedCallCount = new LongAdder();
+
+	public void recordRequest(long estimatedTokens, boolean trimmed) {
+		callCount.increment();
+		estimatedPromptTokens.add(estimatedTokens);
+		if (trimmed) {
+			trimmedCallCount.increment();
+		}
+	}
+
+	public void recordUsage(Usage usage) {
+		if (usage == null) {
+			return;
+		}
+		long prompt = usage.getPromptTokens() == null ? 0 : usage.getPromptTokens();
+		long completion = usage.getCompletionTokens() == null ? 0 : usage.getCompletionTokens();
+		promptTokens.add(prompt);
+		completionTokens.add(completion);
+		log.debug("AI call token usage: prompt={}, completion={}", prompt, completion);
+	}
+
+	// 항목 보정/버림 수는 QuizOutputParser가 집계하므로 호출하는 쪽에서 함께 전달합니다.
+	public TokenUsageStats getStats(long repairedItemCount, long droppedItemCount) {
+		return new TokenUsageStats(callCount.sum(), promptTokens.sum(), completionTokens.sum(),
+			estimatedPromptTokens.sum(), trimmedCallCount.sum(), repairedItemCount, droppedItemCount);
+	}
+}
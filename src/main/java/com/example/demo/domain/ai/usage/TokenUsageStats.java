@@ -0,0 +1,12 @@
+package com.example.demo.domain.ai.usage;
+
+public record TokenUsageStats(
+	long callCount,
+	long promptTokens,          // 모델이 보고한 입력 토큰 합계
+	long completionTokens,      // 모델이 보고한 출력 토큰 합계
+	long estimatedPromptTokens, // 호출 전 로컬 추정 입력 토큰 합계
+	long trimmedCallCount,      // 토큰 예산을 넘어 본문을 잘라낸 호출 수
+	long repairedItemCount,     // 형식을 보정해서 사용한 퀴즈 항목 수
+	long droppedItemCount       // 보정할 수 없어 버린 퀴즈 항목 수
+) {
+}
@@ -0,0 +1,80 @@
+package com.example.demo.domain.ai.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class ArticleChunkUtil {
+
+	private static final Pattern PARAGRAPH_BREAK = Pattern.compile("\\n\\s*\\n");
+
+	// 문장 부호 뒤 공백 기준으로 문장을 나눕니다. (한국어 '다.' 종결 포함)
+	private static final Pattern SENTENCE_BREAK = Pattern.compile("(?<=[.!?。])\\s+");
+
+	/**
+	 * 본문을 maxChars 이하의 조각으로 나눕니다.
+	 * 문단 경계를 우선으로 하고, 한 문단이 너무 길면 문장 경계, 그래도 길면 글자 수 기준으로 자릅니다.
+	 */
+	public static List<String> split(final String content, final int maxChars) {
+		if (maxChars <= 0) {
+			throw new IllegalArgumentException("maxChars must be positive: " + maxChars);
+		}
+		if (content == null || content.isBlank()) {
+			return List.of();
+		}
+		if (content.length() <= maxChars) {
+			return List.of(content);
+		}
+
+		List<String> chunks = new ArrayList<>();
+		StringBuilder current = new StringBuilder();
+		for (String paragraph : PARAGRAPH_BREAK.split(content)) {
+			for (String segment : splitParagraph(paragraph.strip(), maxChars)) {
+				if (!current.isEmpty() && current.length() + 2 + segment.length() > maxChars) {
+					chunks.add(current.toString());
+					current.setLength(0);
+				}
+				if (!current.isEmpty()) {
+					current.append("\n\n");
+				}
+				current.append(segment);
+			}
+		}
+		if (!current.isEmpty()) {
+			chunks.add(current.toString());
+		}
+		return chunks;
+	}
+
+	private static List<String> splitParagraph(String paragraph, int maxChars) {
+		if (paragraph.isEmpty()) {
+			return List.of();
+		}
+		if (paragraph.length() <= maxChars) {
+			return List.of(paragraph);
+		}
+
+		List<String> segments = new ArrayList<>();
+		StringBuilder current = new StringBuilder();
+		for (String sentence : SENTENCE_BREAK.split(paragraph)) {
+			if (!current.isEmpty() && current.length() + 1 + sentence.length() > maxChars) {
+				segments.add(current.toString());
+				current.setLength(0);
+			}
+			if (sentence.length() > maxChars) {
+				for (int start = 0; start < sentence.length(); start += maxChars) {
+					segments.add(sentence.substring(start, Math.min(sentence.length(), start + maxChars)));
+				}
+				continue;
+			}
+			if (!current.isEmpty()) {
+				current.append(' ');
+			}
+			current.append(sentence);
+		}
+		if (!current.isEmpty()) {
+			segments.add(current.toString());
+		}
+		return segments;
+	}
+}
@@ -0,0 +1,118 @@
+package com.example.demo.domain.ai.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class ContentCompactionUtil {
+
+	private static final Pattern SCRIPT_OR_STYLE = Pattern.compile(
+		"<(script|style|noscript)[^>]*>.*?</\\1\\s*>", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+	private static final Pattern HTML_COMMENT = Pattern.compile("<!--.*?-->", Pattern.DOTALL);
+	private static final Pattern BLOCK_TAG = Pattern.compile(
+		"<\\s*(br|/p|/div|/li|/h[1-6]|/tr|/section|/article)\\b[^>]*>", Pattern.CASE_INSENSITIVE);
+	// 태그 이름으로 시작하는 경우만 태그로 봅니다. ("a < b", "<주의>" 같은 본문은 남김)
+	private static final Pattern TAG = Pattern.compile("</?[a-zA-Z][^>]*>");
+	private static final Pattern INLINE_WHITESPACE = Pattern.compile("[ \\t\\x0B\\f\\u00A0\\u200B]+");
+	private static final Pattern PARAGRAPH_BREAK = Pattern.compile("\\n\\s*\\n");
+
+	// 기사 본문과 무관한 상투 문구 줄 (줄 전체가 패턴과 일치할 때만 제거, 본문 문장 속 단어는 남김)
+	private static final List<Pattern> BOILERPLATE_LINES = List.of(
+		// 저작권 표기: "ⓒ 한국일보", "Copyright 2025 ...", "<저작권자 ⓒ ...>"
+		Pattern.compile("[<\\[(]?\\s*(ⓒ|©|\\(c\\)\\s|copyright\\s*(ⓒ|©|\\(c\\)|\\d{4})|저작권자\\s*\\(?(ⓒ|©|\\(c\\))).*",
+			Pattern.CASE_INSENSITIVE),
+		Pattern.compile(".*무단\\s?(전재|복제).*(재배포|금지).*"),
+		Pattern.compile(".*all rights reserved\\.?", Pattern.CASE_INSENSITIVE),
+		// 구독/좋아요 요청: "구독과 좋아요 부탁드립니다", "좋아요를 눌러주세요"
+		Pattern.compile("(구독|좋아요|알림).*(눌러|부탁).*"),
+		// 버튼/링크 문구만 있는 줄: "구독하기 | 공유하기", "Advertisement", "Click here to subscribe"
+		Pattern.compile("((구독하기|공유하기|기사\\s?제보|좋아요|subscribe|advertisement)[\\s|·/]*)+",
+			Pattern.CASE_INSENSITIVE),
+		Pattern.compile("click here\\b.*", Pattern.CASE_INSENSITIVE));
+
+	private static final int BOILERPLATE_MAX_LINE_LENGTH = 120;
+
+	/**
+	 * 모델에 보내기 전 본문 정리
+	 * HTML 태그/스크립트, 엔티티, 상투 문구를 제거하고 공백을 줄이되 문단 경계(빈 줄)는 유지합니다.
+	 */
+	public static String compact(final String content) {
+		if (content == null || content.isBlank()) {
+			return content;
+		}
+		String text = SCRIPT_OR_STYLE.matcher(content).replaceAll(" ");
+		text = HTML_COMMENT.matcher(text).replaceAll(" ");
+		text = BLOCK_TAG.matcher(text).replaceAll("\n");
+		text = TAG.matcher(text).replaceAll(" ");
+		text = decodeEntities(text);
+
+		StringBuilder compacted = new StringBuilder(text.length());
+		boolean pendingBreak = false;
+		for (String line : text.replace("\r", "").split("\n")) {
+			String normalized = INLINE_WHITESPACE.matcher(line).replaceAll(" ").strip();
+			if (normalized.isEmpty()) {
+				pendingBreak = !compacted.isEmpty();
+				continue;
+			}
+			if (isBoilerplate(normalized)) {
+				continue;
+			}
+			if (!compacted.isEmpty()) {
+				compacted.append(pendingBreak ? "\n\n" : "\n");
+			}
+			compacted.append(normalized);
+			pendingBreak = false;
+		}
+		return compacted.toString();
+	}
+
+	/**
+	 * 추정 토큰 수가 maxTokens를 넘으면 뒤쪽 문단부터 잘라냅니다. (기사는 앞부분에 핵심이 오는 경우가 많음)
+	 * 첫 문단만으로도 넘치면 첫 문단을 글자 단위로 자릅니다.
+	 */
+	public static String trimToTokenBudget(final String content, final long maxTokens) {
+		if (content == null || TokenEstimateUtil.estimate(content) <= maxTokens) {
+			return content;
+		}
+		List<String> kept = new ArrayList<>();
+		long usedTokens = 0;
+		for (String paragraph : PARAGRAPH_BREAK.split(content)) {
+			long paragraphTokens = TokenEstimateUtil.estimate(paragraph) + 1;
+			if (usedTokens + paragraphTokens > maxTokens) {
+				if (kept.isEmpty()) {
+					kept.add(truncate(paragraph, maxTokens));
+				}
+				break;
+			}
+			kept.add(paragraph);
+			usedTokens += paragraphTokens;
+		}
+		return String.join("\n\n", kept);
+	}
+
+	private static String truncate(String paragraph, long maxTokens) {
+		int end = paragraph.length();
+		while (end > 0 && TokenEstimateUtil.estimate(paragraph.substring(0, end)) > maxTokens) {
+			end = Math.max(0, end - Math.max(1, end / 10));
+		}
+		return paragraph.substring(0, end);
+	}
+
+	private static boolean isBoilerplate(String line) {
+		if (line.length() > BOILERPLATE_MAX_LINE_LENGTH) {
+			return false;
+		}
+		return BOILERPLATE_LINES.stream().anyMatch(pattern -> pattern.matcher(line).matches());
+	}
+
+	private static String decodeEntities(String text) {
+		return text.replace("&nbsp;", " ")
+			.replace("&lt;", "<")
+			.replace("&gt;", ">")
+			.replace("&quot;", "\"")
+			.replace("&#39;", "'")
+			.replace("&apos;", "'")
+			.replace("&middot;", "·")
+			.replace("&amp;", "&");
+	}
+}
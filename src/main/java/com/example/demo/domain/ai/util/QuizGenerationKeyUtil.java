@@ -0,0 +1,39 @@
+package com.example.demo.domain.ai.util;
+
+import java.util.regex.Pattern;
+
+import com.example.demo.common.util.HashUtil;
+
+public class QuizGenerationKeyUtil {
+
+	private static final char FIELD_SEPARATOR = '\u001F';
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	// 생성 결과에 영향을 주는 입력(모델, 온도, 시스템 프롬프트 버전, 정규화한 제목/본문) 기준 해시
+	public static String hash(final String model, final Double temperature, final String promptVersion,
+		final String title, final String content) {
+		StringBuilder input = new StringBuilder();
+		appendField(input, model);
+		appendField(input, temperature == null ? null : temperature.toString());
+		appendField(input, promptVersion);
+		appendField(input, normalize(title));
+		appendField(input, normalize(content));
+		return HashUtil.sha256Hex(input.toString());
+	}
+
+	// 공백 차이만 있는 입력은 같은 키가 되도록 앞뒤 공백 제거 및 연속 공백 축약
+	private static String normalize(String value) {
+		if (value == null) {
+			return null;
+		}
+		return WHITESPACE.matcher(value.strip()).replaceAll(" ");
+	}
+
+	private static void appendField(StringBuilder input, String value) {
+		if (value != null) {
+			input.append(value);
+		}
+		input.append(FIELD_SEPARATOR);
+	}
+}
@@ -0,0 +1,24 @@
+package com.example.demo.domain.ai.util;
+
+public class TokenEstimateUtil {
+
+	// 영문/숫자/기호는 약 4글자당 1토큰, 한글 등 비 ASCII 문자는 글자당 약 1토큰으로 어림합니다.
+	private static final int ASCII_CHARS_PER_TOKEN = 4;
+
+	public static long estimate(final String text) {
+		if (text == null || text.isEmpty()) {
+			return 0;
+		}
+		long asciiCount = 0;
+		long nonAsciiCount = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c < 0x80) {
+				asciiCount++;
+			} else if (!Character.isLowSurrogate(c)) {
+				nonAsciiCount++;
+			}
+		}
+		return (asciiCount + ASCII_CHARS_PER_TOKEN - 1) / ASCII_CHARS_PER_TOKEN + nonAsciiCount;
+	}
+}
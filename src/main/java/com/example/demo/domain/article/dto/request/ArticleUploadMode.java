@@ -0,0 +1,6 @@
+package com.example.demo.domain.article.dto.request;
+
+public enum ArticleUploadMode {
+	SKIP_EXISTING, // 이미 존재하는 articleId는 건너뜀
+	UPSERT         // 내용이 바뀐 기사만 갱신
+}
@@ -0,0 +1,19 @@
+package com.example.demo.domain.article.dto.response;
+
+import java.util.List;
+
+public record ArticleUploadResponse(
+	int insertedCount,
+	int updatedCount,
+	int skippedCount,
+	List<String> insertedArticleIds
+) {
+	public static ArticleUploadResponse of(int requestedCount, List<String> insertedArticleIds, int updatedCount) {
+		return new ArticleUploadResponse(
+			insertedArticleIds.size(),
+			updatedCount,
+			requestedCount - insertedArticleIds.size() - updatedCount,
+			insertedArticleIds
+		);
+	}
+}
@@ -1,5 +1,7 @@
 package com.example.demo.domain.article.entity;
 
+import com.example.demo.common.base.BaseEntity;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -16,7 +18,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Article {
+public class Article extends BaseEntity {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -42,4 +44,8 @@ public class Article {
 
 	@Column(name = "date", length = 20)
 	private String date;
+
+	// 피드 재동기화 시 변경 여부 판단용 (ArticleContentHashUtil)
+	@Column(name = "content_hash", length = 64)
+	private String contentHash;
 }
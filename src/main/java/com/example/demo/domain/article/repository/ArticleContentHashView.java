@@ -0,0 +1,8 @@
+package com.example.demo.domain.article.repository;
+
+public interface ArticleContentHashView {
+
+	String getArticleId();
+
+	String getContentHash();
+}
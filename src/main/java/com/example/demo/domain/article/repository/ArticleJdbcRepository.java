@@ -0,0 +1,85 @@
+package com.example.demo.domain.article.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.demo.common.jdbc.DatabaseDialect;
+import com.example.demo.domain.article.dto.request.ArticleUploadRequest;
+import com.example.demo.domain.article.util.ArticleContentHashUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * IDENTITY 키 때문에 Hibernate가 배치 처리하지 못하는 대량 INSERT/UPSERT를 JDBC 배치로 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleJdbcRepository {
+
+	private static final int BATCH_SIZE = 500;
+
+	private static final String INSERT_SQL = "INSERT INTO article "
+		+ "(article_id, category_id, image_url, title, description, source, date, content_hash, created_at, updated_at) "
+		+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	// VALUES(col) 함수는 MySQL 8.0.20부터 deprecated 이므로 행 별칭(8.0.19+)으로 참조
+	private static final String MYSQL_UPSERT_SQL = INSERT_SQL
+		+ " AS new ON DUPLICATE KEY UPDATE category_id = new.category_id, image_url = new.image_url, "
+		+ "title = new.title, description = new.description, source = new.source, "
+		+ "date = new.date, content_hash = new.content_hash, updated_at = new.updated_at";
+
+	// H2 등 표준 MERGE를 지원하는 DB용 (created_at은 신규 INSERT 시에만 기록)
+	private static final String MERGE_UPSERT_SQL = "MERGE INTO article t USING (VALUES ("
+		+ "CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(50)), CAST(? AS VARCHAR(1000)), CAST(? AS VARCHAR(500)), "
+		+ "CAST(? AS CLOB), CAST(? AS VARCHAR(100)), CAST(? AS VARCHAR(20)), CAST(? AS VARCHAR(64)), "
+		+ "CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP))) "
+		+ "AS s(article_id, category_id, image_url, title, description, source, date, content_hash, created_at, updated_at) "
+		+ "ON t.article_id = s.article_id "
+		+ "WHEN MATCHED THEN UPDATE SET category_id = s.category_id, image_url = s.image_url, title = s.title, "
+		+ "description = s.description, source = s.source, date = s.date, content_hash = s.content_hash, "
+		+ "updated_at = s.updated_at "
+		+ "WHEN NOT MATCHED THEN INSERT "
+		+ "(article_id, category_id, image_url, title, description, source, date, content_hash, created_at, updated_at) "
+		+ "VALUES (s.article_id, s.category_id, s.image_url, s.title, s.description, s.source, s.date, "
+		+ "s.content_hash, s.created_at, s.updated_at)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final DatabaseDialect databaseDialect;
+
+	public void batchInsert(List<ArticleUploadRequest> requests) {
+		batchWrite(INSERT_SQL, requests);
+	}
+
+	/**
+	 * DB 고유 구문(MySQL: ON DUPLICATE KEY UPDATE, 그 외: MERGE)으로 배치당 한 문장씩 UPSERT 합니다.
+	 */
+	public void batchUpsert(List<ArticleUploadRequest> requests) {
+		batchWrite(databaseDialect.isMySql() ? MYSQL_UPSERT_SQL : MERGE_UPSERT_SQL, requests);
+	}
+
+	private void batchWrite(String sql, List<ArticleUploadRequest> requests) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		jdbcTemplate.batchUpdate(sql, requests, BATCH_SIZE, (ps, request) -> setArticleParameters(ps, request, now));
+	}
+
+	private void setArticleParameters(PreparedStatement ps, ArticleUploadRequest request, Timestamp now)
+		throws SQLException {
+		ps.setString(1, request.getArticleId());
+		ps.setString(2, request.getCategoryId());
+		ps.setString(3, request.getImageUrl());
+		ps.setString(4, request.getTitle());
+		ps.setString(5, request.getDescription());
+		ps.setString(6, request.getSource());
+		ps.setString(7, request.getDate());
+		ps.setString(8, ArticleContentHashUtil.hash(request));
+		ps.setTimestamp(9, now);
+		ps.setTimestamp(10, now);
+	}
+}
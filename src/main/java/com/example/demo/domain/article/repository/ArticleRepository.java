@@ -1,11 +1,26 @@
 package com.example.demo.domain.article.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.demo.domain.article.entity.Article;
 
-import java.util.Optional;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface ArticleRepository extends JpaRepository<Article, Long> {
@@ -13,5 +28,50 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
 	boolean existsByArticleId(String articleId);
 	
 	Optional<Article> findByArticleId(String articleId);
+
+	/**
+	 * 기사 행을 잠그고 조회합니다. 같은 기사의 퀴즈 저장(업로드, AI 일괄 생성)을 순서대로 처리하기 위해 사용합니다.
+	 * 여러 기사를 잠글 때 교착 상태가 생기지 않도록 id 순으로 잠급니다.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT a FROM Article a WHERE a.id IN :ids ORDER BY a.id")
+	List<Article> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+	@Query("SELECT a.articleId AS articleId, a.contentHash AS contentHash FROM Article a "
+		+ "WHERE a.articleId IN :articleIds")
+	List<ArticleContentHashView> findContentHashes(@Param("articleIds") Collection<String> articleIds);
+
+	/**
+	 * 퀴즈가 아직 없는 기사를 id 순으로 조회합니다. (afterId 이후부터)
+	 * 퀴즈가 저장된 기사는 다음 조회에서 빠지므로, 중단 후 다시 실행해도 남은 기사부터 이어집니다.
+	 */
+	@Query("SELECT a FROM Article a "
+		+ "WHERE a.id > :afterId "
+		+ "AND NOT EXISTS (SELECT 1 FROM QuizQuestion q WHERE q.article = a) "
+		+ "ORDER BY a.id")
+	List<Article> findWithoutQuizAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+	Slice<Article> findSliceBy(Pageable pageable);
+
+	/**
+	 * id 기준 keyset 페이지 조회 (최신순)
+	 * cursor보다 작은 id만 조회하므로 OFFSET/COUNT 없이 인덱스 범위 스캔으로 처리됩니다.
+	 */
+	@Query("SELECT a FROM Article a "
+		+ "WHERE (:cursor IS NULL OR a.id < :cursor) "
+		+ "AND (:categoryId IS NULL OR a.categoryId = :categoryId) "
+		+ "ORDER BY a.id DESC")
+	List<Article> findPageByCursor(@Param("cursor") Long cursor, @Param("categoryId") String categoryId,
+		Pageable pageable);
+
+	// 전체 기사를 커서로 읽어오는 스트림 (트랜잭션 안에서 사용 후 반드시 close)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT a FROM Article a ORDER BY a.id")
+	Stream<Article> streamAll();
+
+	// BaseEntity 도입 전에 저장된 기사는 updated_at이 NULL이므로 변경분에 함께 포함
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT a FROM Article a WHERE a.updatedAt >= :updatedSince OR a.updatedAt IS NULL ORDER BY a.id")
+	Stream<Article> streamByUpdatedSince(@Param("updatedSince") LocalDateTime updatedSince);
 	
-} 
\ No newline at end of file
+}
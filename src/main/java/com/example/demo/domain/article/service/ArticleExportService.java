@@ -0,0 +1,60 @@
+package com.example.demo.domain.article.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.domain.article.dto.response.ArticleDto;
+import com.example.demo.domain.article.entity.Article;
+import com.example.demo.domain.article.repository.ArticleRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ArticleExportService {
+
+	private static final int FLUSH_INTERVAL = 500;
+
+	private final ArticleRepository articleRepository;
+	private final EntityManager entityManager;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 기사 전체를 NDJSON(한 줄에 기사 하나) 형식으로 출력 스트림에 씁니다.
+	 * 한 건씩 읽고 쓴 뒤 영속성 컨텍스트에서 분리하므로 테이블 크기와 무관하게 메모리 사용량이 일정합니다.
+	 *
+	 * @param updatedSince 이 시각 이후 수정된 기사만 출력 (null이면 전체)
+	 */
+	@Transactional(readOnly = true)
+	public void exportArticles(LocalDateTime updatedSince, OutputStream outputStream) throws IOException {
+		JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+		try (Stream<Article> articles = updatedSince == null
+			? articleRepository.streamAll()
+			: articleRepository.streamByUpdatedSince(updatedSince)) {
+			int writtenCount = 0;
+			for (Article article : (Iterable<Article>)articles::iterator) {
+				writeArticle(generator, article);
+				entityManager.detach(article);
+				if (++writtenCount % FLUSH_INTERVAL == 0) {
+					generator.flush();
+				}
+			}
+		}
+		generator.flush();
+	}
+
+	private void writeArticle(JsonGenerator generator, Article article) throws IOException {
+		generator.writeObject(ArticleDto.from(article));
+		generator.writeRaw('\n');
+	}
+}
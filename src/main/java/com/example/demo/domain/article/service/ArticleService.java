@@ -1,18 +1,31 @@
 package com.example.demo.domain.article.service;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.common.error.ErrorCode;
+import com.example.demo.common.error.exception.AppException;
+import com.example.demo.common.response.SliceResponse;
+import com.example.demo.domain.article.dto.request.ArticleUploadMode;
 import com.example.demo.domain.article.dto.request.ArticleUploadRequest;
 import com.example.demo.domain.article.dto.response.ArticleDto;
+import com.example.demo.domain.article.dto.response.ArticleUploadResponse;
 import com.example.demo.domain.article.entity.Article;
+import com.example.demo.domain.article.repository.ArticleJdbcRepository;
 import com.example.demo.domain.article.repository.ArticleRepository;
+import com.example.demo.domain.article.util.ArticleContentHashUtil;
 import com.example.demo.domain.quiz.dto.response.QuizQuestionDto;
-import com.example.demo.domain.quiz.repository.QuizQuestionRepository;
+import com.example.demo.domain.quiz.cache.QuizSetCache;
 import com.example.demo.domain.article.dto.response.ArticleWithQuizResponseDto;
 import java.util.Optional;
 
@@ -22,50 +35,118 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ArticleService {
 
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
 	private final ArticleRepository articleRepository;
-	private final QuizQuestionRepository quizQuestionRepository;
+	private final ArticleJdbcRepository articleJdbcRepository;
+	private final QuizSetCache quizSetCache;
 
+	/**
+	 * 기사들을 일괄 저장합니다.
+	 * 기존 기사는 한 번의 IN 조회(내용 해시 포함)로 찾고, 필요한 행만 JDBC 배치로 기록합니다.
+	 *
+	 * @param mode SKIP_EXISTING: 새 기사만 INSERT, UPSERT: 새 기사 INSERT + 내용이 바뀐 기사 UPDATE
+	 */
 	@Transactional
-	public List<String> uploadArticles(List<ArticleUploadRequest> requests) {
-		List<String> savedArticleIds = new ArrayList<>();
-		
-		for (ArticleUploadRequest request : requests) {
-			// 중복 체크 (선택사항)
-			if (articleRepository.existsByArticleId(request.getArticleId())) {
-				continue; // 이미 존재하는 기사는 건너뜀
+	public ArticleUploadResponse uploadArticles(List<ArticleUploadRequest> requests, ArticleUploadMode mode) {
+		// 요청 내 중복 articleId는 첫 번째 항목만 사용
+		Map<String, ArticleUploadRequest> requestsByArticleId = new LinkedHashMap<>();
+		requests.forEach(request -> requestsByArticleId.putIfAbsent(request.getArticleId(), request));
+
+		Map<String, String> existingContentHashes = findContentHashes(requestsByArticleId.keySet());
+		List<ArticleUploadRequest> newArticles = new ArrayList<>();
+		List<ArticleUploadRequest> changedArticles = new ArrayList<>();
+		for (ArticleUploadRequest request : requestsByArticleId.values()) {
+			if (!existingContentHashes.containsKey(request.getArticleId())) {
+				newArticles.add(request);
+			} else if (mode == ArticleUploadMode.UPSERT
+				&& !ArticleContentHashUtil.hash(request).equals(existingContentHashes.get(request.getArticleId()))) {
+				changedArticles.add(request);
 			}
-			
-			Article article = Article.builder()
-				.articleId(request.getArticleId())
-				.categoryId(request.getCategoryId())
-				.imageUrl(request.getImageUrl())
-				.title(request.getTitle())
-				.description(request.getDescription())
-				.source(request.getSource())
-				.date(request.getDate())
-				.build();
-			
-			Article savedArticle = articleRepository.save(article);
-			savedArticleIds.add(savedArticle.getArticleId());
 		}
-		
-		return savedArticleIds;
+
+		writeArticles(newArticles, changedArticles);
+
+		List<String> insertedArticleIds = newArticles.stream()
+			.map(ArticleUploadRequest::getArticleId)
+			.collect(Collectors.toList());
+		return ArticleUploadResponse.of(requests.size(), insertedArticleIds, changedArticles.size());
 	}
 	
+	/**
+	 * 기사 목록을 최신순으로 페이지 단위 조회합니다. (COUNT 쿼리 없음)
+	 */
 	@Transactional(readOnly = true)
-	public List<ArticleDto> getAllArticles() {
-		List<Article> articles = articleRepository.findAll();
+	public List<ArticleDto> getAllArticles(int page, int size) {
+		if (page < 0) {
+			throw new AppException(ErrorCode.USER_INPUT_EXCEPTION);
+		}
+		PageRequest pageRequest = PageRequest.of(page, validatePageSize(size), Sort.by(Sort.Direction.DESC, "id"));
 		
-		return articles.stream()
+		return articleRepository.findSliceBy(pageRequest).stream()
 			.map(ArticleDto::from)
 			.collect(Collectors.toList());
 	}
 
+	/**
+	 * id 커서 기반으로 기사 목록을 조회합니다.
+	 *
+	 * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+	 * @param categoryId 카테고리 필터 (null이면 전체)
+	 */
+	@Transactional(readOnly = true)
+	public SliceResponse<ArticleDto> getArticlesByCursor(Long cursor, String categoryId, int size) {
+		int pageSize = validatePageSize(size);
+		// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+		List<Article> articles = articleRepository.findPageByCursor(cursor, categoryId, PageRequest.of(0, pageSize + 1));
+
+		boolean hasNext = articles.size() > pageSize;
+		List<ArticleDto> content = articles.stream()
+			.limit(pageSize)
+			.map(ArticleDto::from)
+			.collect(Collectors.toList());
+		Long nextCursor = hasNext ? content.get(content.size() - 1).getId() : null;
+
+		return SliceResponse.of(content, hasNext, nextCursor);
+	}
+
 	public ArticleWithQuizResponseDto getArticleWithQuizByArticleId(String articleId) {
 		Article article = articleRepository.findByArticleId(articleId)
 			.orElseThrow(() -> new RuntimeException("해당 articleId의 기사가 존재하지 않습니다."));
-		List<QuizQuestionDto> quizList = quizQuestionRepository.findByArticleArticleId(articleId)
-			.stream().map(QuizQuestionDto::from).collect(Collectors.toList());
+		List<QuizQuestionDto> quizList = quizSetCache.getQuizSet(article.getId()).toQuestionDtos();
 		return ArticleWithQuizResponseDto.of(ArticleDto.from(article), quizList);
 	}
+
+	// 변경된 기사가 있으면 신규 기사와 함께 UPSERT 한 번으로 처리
+	private void writeArticles(List<ArticleUploadRequest> newArticles, List<ArticleUploadRequest> changedArticles) {
+		if (changedArticles.isEmpty()) {
+			if (!newArticles.isEmpty()) {
+				articleJdbcRepository.batchInsert(newArticles);
+			}
+			return;
+		}
+		List<ArticleUploadRequest> upsertArticles = new ArrayList<>(newArticles);
+		upsertArticles.addAll(changedArticles);
+		articleJdbcRepository.batchUpsert(upsertArticles);
+	}
+
+	// IN 절 파라미터 개수 제한을 피하기 위해 나눠서 조회 (articleId -> contentHash)
+	private Map<String, String> findContentHashes(Collection<String> articleIds) {
+		List<String> articleIdList = new ArrayList<>(articleIds);
+		Map<String, String> contentHashes = new HashMap<>();
+		for (int from = 0; from < articleIdList.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+			int to = Math.min(from + IN_CLAUSE_CHUNK_SIZE, articleIdList.size());
+			articleRepository.findContentHashes(articleIdList.subList(from, to))
+				.forEach(view -> contentHashes.put(view.getArticleId(), view.getContentHash()));
+		}
+		return contentHashes;
+	}
+
+	private int validatePageSize(int size) {
+		if (size < 1) {
+			throw new AppException(ErrorCode.USER_INPUT_EXCEPTION);
+		}
+		return Math.min(size, MAX_PAGE_SIZE);
+	}
 } 
\ No newline at end of file
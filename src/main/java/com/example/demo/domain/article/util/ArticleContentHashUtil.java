@@ -0,0 +1,28 @@
+package com.example.demo.domain.article.util;
+
+import com.example.demo.common.util.HashUtil;
+import com.example.demo.domain.article.dto.request.ArticleUploadRequest;
+
+public class ArticleContentHashUtil {
+
+	private static final char FIELD_SEPARATOR = '\u001F';
+
+	// 변경 감지용 해시 (articleId를 제외한 본문 필드 기준)
+	public static String hash(final ArticleUploadRequest request) {
+		StringBuilder content = new StringBuilder();
+		appendField(content, request.getCategoryId());
+		appendField(content, request.getImageUrl());
+		appendField(content, request.getTitle());
+		appendField(content, request.getDescription());
+		appendField(content, request.getSource());
+		appendField(content, request.getDate());
+		return HashUtil.sha256Hex(content.toString());
+	}
+
+	private static void appendField(StringBuilder content, String value) {
+		if (value != null) {
+			content.append(value);
+		}
+		content.append(FIELD_SEPARATOR);
+	}
+}
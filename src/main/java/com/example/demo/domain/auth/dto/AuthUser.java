@@ -0,0 +1,14 @@
+package com.example.demo.domain.auth.dto;
+
+/**
+ * 액세스 토큰 클레임만으로 구성한 인증 주체
+ * 요청마다 DB에서 사용자를 조회하지 않기 위해 사용합니다.
+ */
+public record AuthUser(
+	Long id,
+	String email
+) {
+	public static AuthUser of(Long id, String email) {
+		return new AuthUser(id, email);
+	}
+}
@@ -4,14 +4,18 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.common.cache.CacheStats;
 import com.example.demo.common.error.ErrorCode;
 import com.example.demo.common.error.exception.AppException;
 import com.example.demo.common.jwt.RefreshToken;
 import com.example.demo.common.jwt.RefreshTokenRepository;
 import com.example.demo.domain.auth.dto.Token;
 import com.example.demo.domain.jwt.JwtTokenProvider;
+import com.example.demo.domain.jwt.VerifiedToken;
+import com.example.demo.domain.jwt.VerifiedTokenCache;
 import com.example.demo.domain.user.entity.UserEntity;
 import com.example.demo.domain.user.repository.UserEntityRepository;
+import com.example.demo.domain.user.service.UserCacheService;
 import com.example.demo.web.auth.dto.response.LoginResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -28,6 +32,10 @@ public class AuthService {
 
 	private final JwtTokenProvider jwtTokenProvider;
 
+	private final UserCacheService userCacheService;
+
+	private final VerifiedTokenCache verifiedTokenCache;
+
 	@Transactional
 	public LoginResponse login(final String email, final String password) {
 		UserEntity user = userEntityRepository.findByEmail(email)
@@ -44,4 +52,20 @@ public class AuthService {
 
 		return LoginResponse.from(token);
 	}
+
+	/**
+	 * 액세스 토큰을 폐기하고 사용자의 리프레시 토큰을 삭제합니다.
+	 */
+	@Transactional
+	public void logout(final String accessToken) {
+		VerifiedToken verifiedToken = jwtTokenProvider.verifyAccessToken(accessToken);
+
+		jwtTokenProvider.revokeAccessToken(accessToken, verifiedToken);
+		refreshTokenRepository.deleteAllByUserId(verifiedToken.userId());
+		userCacheService.evictUser(verifiedToken.userId());
+	}
+
+	public CacheStats getVerifiedTokenCacheStats() {
+		return verifiedTokenCache.getStats();
+	}
 }
@@ -0,0 +1,28 @@
+package com.example.demo.domain.auth.util;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.demo.common.error.ErrorCode;
+import com.example.demo.common.error.exception.AppException;
+import com.example.demo.domain.auth.dto.AuthUser;
+import com.example.demo.domain.user.entity.UserEntity;
+
+public class AuthenticationUtil {
+
+	// statelessPrincipal 설정에 따라 principal은 AuthUser 또는 UserEntity 입니다.
+	public static Long getCurrentUserId() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null) {
+			throw new AppException(ErrorCode.USER_NOT_AUTHENTICATED_EXCEPTION);
+		}
+		Object principal = authentication.getPrincipal();
+		if (principal instanceof AuthUser authUser) {
+			return authUser.id();
+		}
+		if (principal instanceof UserEntity userEntity) {
+			return userEntity.getId();
+		}
+		throw new AppException(ErrorCode.INVALID_PRINCIPAL_TYPE_EXCEPTION);
+	}
+}
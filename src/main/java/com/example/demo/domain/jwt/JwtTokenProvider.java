@@ -12,16 +12,15 @@ import com.example.demo.common.error.exception.AppException;
 import com.example.demo.common.property.TokenProperty;
 import com.example.demo.domain.auth.dto.Token;
 import com.example.demo.domain.user.entity.UserEntity;
-import com.example.demo.domain.user.repository.UserEntityRepository;
+import com.example.demo.domain.user.service.UserCacheService;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
 	private static final String ACCESS_TOKEN = "accessToken";
@@ -30,7 +29,29 @@ public class JwtTokenProvider {
 
 	private final TokenProperty tokenProperty;
 
-	private final UserEntityRepository userEntityRepository;
+	private final UserCacheService userCacheService;
+
+	private final VerifiedTokenCache verifiedTokenCache;
+
+	private final TokenBlacklist tokenBlacklist;
+
+	// 서명 키와 파서는 기동 시 한 번만 만들고 공유합니다. (JwtParser는 thread-safe)
+	private final SecretKey signingKey;
+
+	private final JwtParser jwtParser;
+
+	public JwtTokenProvider(TokenProperty tokenProperty, UserCacheService userCacheService,
+		VerifiedTokenCache verifiedTokenCache, TokenBlacklist tokenBlacklist) {
+		this.tokenProperty = tokenProperty;
+		this.userCacheService = userCacheService;
+		this.verifiedTokenCache = verifiedTokenCache;
+		this.tokenBlacklist = tokenBlacklist;
+		this.signingKey = Keys.hmacShaKeyFor(tokenProperty.getSecretKey().getBytes(StandardCharsets.UTF_8));
+		this.jwtParser = Jwts.parserBuilder()
+			.setSigningKey(signingKey)
+			.build();
+	}
+
 	public Token createToken(final UserEntity user) {
 		return new Token(
 			generateAccessToken(user),
@@ -41,16 +62,10 @@ public class JwtTokenProvider {
 	private String generateAccessToken(final UserEntity user) {
 		Claims claims = Jwts.claims();
 		claims.put("id", user.getId());
+		claims.put("email", user.getEmail());
 		claims.put("type", ACCESS_TOKEN);
 
-		SecretKey key = Keys.hmacShaKeyFor(tokenProperty.getSecretKey().getBytes(StandardCharsets.UTF_8));
-
-		return Jwts.builder()
-			.setClaims(claims)
-			.setIssuedAt(new Date())
-			.setExpiration(new Date(System.currentTimeMillis() + tokenProperty.getAccessExpiration()))
-			.signWith(key, SignatureAlgorithm.HS256)
-			.compact();
+		return signToken(claims, tokenProperty.getAccessExpiration());
 	}
 
 	private String generateRefreshToken(final UserEntity user) {
@@ -58,50 +73,83 @@ public class JwtTokenProvider {
 		claims.put("id", user.getId());
 		claims.put("type", REFRESH_TOKEN);
 
-		SecretKey key = Keys.hmacShaKeyFor(tokenProperty.getSecretKey().getBytes(StandardCharsets.UTF_8));
+		return signToken(claims, tokenProperty.getRefreshExpiration());
+	}
 
+	private String signToken(final Claims claims, final long expiration) {
+		long now = System.currentTimeMillis();
+
+		// JwtBuilder는 상태를 가지므로 공유하지 않고 매번 생성합니다.
 		return Jwts.builder()
 			.setClaims(claims)
-			.setIssuedAt(new Date())
-			.setExpiration(new Date(System.currentTimeMillis() + tokenProperty.getRefreshExpiration()))
-			.signWith(key, SignatureAlgorithm.HS256)
+			.setIssuedAt(new Date(now))
+			.setExpiration(new Date(now + expiration))
+			.signWith(signingKey, SignatureAlgorithm.HS256)
 			.compact();
 	}
 
-	public void validateToken(final String accessToken) {
+	/**
+	 * 액세스 토큰을 한 번만 파싱/서명 검증하여 클레임을 반환합니다.
+	 *
+	 * @throws AppException 토큰이 비어있거나 형식이 잘못된 경우 MALFORMED_TOKEN_EXCEPTION,
+	 *                      액세스 토큰이 아닌 경우 INVALID_TOKEN_TYPE,
+	 *                      폐기된 토큰인 경우 TOKEN_BLACKLISTED_EXCEPTION
+	 */
+	public VerifiedToken verifyAccessToken(final String accessToken) {
 		if (accessToken == null || accessToken.isEmpty()) {
 			throw new AppException(ErrorCode.MALFORMED_TOKEN_EXCEPTION);
 		}
-		if (!getType(accessToken).equals(ACCESS_TOKEN)) {
-			throw new AppException(ErrorCode.INVALID_TOKEN_TYPE);
+		// 캐시와 블랙리스트를 모두 쓰지 않을 때는 해시 계산을 생략합니다.
+		if (!verifiedTokenCache.isEnabled() && tokenBlacklist.isEmpty()) {
+			return verifyAccessTokenType(parseToken(accessToken));
+		}
+
+		final String tokenHash = TokenHashUtil.hash(accessToken);
+		if (tokenBlacklist.contains(tokenHash)) {
+			throw new AppException(ErrorCode.TOKEN_BLACKLISTED_EXCEPTION);
+		}
+		if (!verifiedTokenCache.isEnabled()) {
+			return verifyAccessTokenType(parseToken(accessToken));
 		}
-		// if (blackListRepository.existsById(accessToken)) {
-		// 	throw new AppException(ErrorCode.TOKEN_BLACKLISTED_EXCEPTION);
-		// }
+		return verifiedTokenCache.get(tokenHash).orElseGet(() -> {
+			VerifiedToken verifiedToken = verifyAccessTokenType(parseToken(accessToken));
+			verifiedTokenCache.put(tokenHash, verifiedToken);
+			return verifiedToken;
+		});
 	}
 
-	public String getType(String token) {
-		Claims claims = Jwts.parserBuilder()
-			.setSigningKey(Keys.hmacShaKeyFor(tokenProperty.getSecretKey().getBytes(StandardCharsets.UTF_8)))
-			.build()
-			.parseClaimsJws(token)
-			.getBody();
+	/**
+	 * 액세스 토큰을 만료 시각까지 블랙리스트에 등록하고 캐시된 검증 결과를 제거합니다.
+	 */
+	public void revokeAccessToken(final String accessToken, final VerifiedToken verifiedToken) {
+		final String tokenHash = TokenHashUtil.hash(accessToken);
+		tokenBlacklist.add(tokenHash, verifiedToken.expiresAtMillis());
+		verifiedTokenCache.invalidate(tokenHash);
+	}
 
-		return claims.get("type", String.class);
+	public UserEntity getAuthenticatedUser(final VerifiedToken verifiedToken) {
+		return userCacheService.getUser(verifiedToken.userId());
 	}
 
-	public UserEntity getAuthenticatedUser(String accessToken) {
-		Claims claims = Jwts.parserBuilder()
-			.setSigningKey(Keys.hmacShaKeyFor(tokenProperty.getSecretKey().getBytes(StandardCharsets.UTF_8)))
-			.build()
-			.parseClaimsJws(accessToken)
-			.getBody();
+	private VerifiedToken verifyAccessTokenType(final VerifiedToken verifiedToken) {
+		if (!ACCESS_TOKEN.equals(verifiedToken.type())) {
+			throw new AppException(ErrorCode.INVALID_TOKEN_TYPE);
+		}
+		return verifiedToken;
+	}
+
+	private VerifiedToken parseToken(final String token) {
+		Claims claims = jwtParser.parseClaimsJws(token).getBody();
 
 		Long userId = claims.get("id", Long.class);
 		if (userId == null) {
 			throw new AppException(ErrorCode.MALFORMED_TOKEN_EXCEPTION);
 		}
-		return userEntityRepository.findById(userId)
-			.orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND_EXCEPTION));
+		return new VerifiedToken(
+			userId,
+			claims.get("email", String.class),
+			claims.get("type", String.class),
+			claims.getExpiration().getTime()
+		);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package com.example.demo.domain.jwt;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.common.property.TokenProperty;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그아웃 등으로 폐기된 액세스 토큰 해시 목록
+ * 토큰 만료 시각이 지난 항목은 주기적으로 정리됩니다. (인스턴스 로컬 메모리)
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklist {
+
+	private final TokenProperty tokenProperty;
+
+	private final Map<String, Long> expiresAtByTokenHash = new ConcurrentHashMap<>();
+
+	private ScheduledExecutorService pruneExecutor;
+
+	@PostConstruct
+	void startPruning() {
+		pruneExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "token-blacklist-pruner");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = tokenProperty.getBlacklistPruneInterval();
+		pruneExecutor.scheduleWithFixedDelay(this::pruneExpired, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	void stopPruning() {
+		pruneExecutor.shutdownNow();
+	}
+
+	public void add(final String tokenHash, final long expiresAtMillis) {
+		expiresAtByTokenHash.put(tokenHash, expiresAtMillis);
+	}
+
+	public boolean contains(final String tokenHash) {
+		Long expiresAt = expiresAtByTokenHash.get(tokenHash);
+		if (expiresAt == null) {
+			return false;
+		}
+		if (expiresAt <= System.currentTimeMillis()) {
+			expiresAtByTokenHash.remove(tokenHash, expiresAt);
+			return false;
+		}
+		return true;
+	}
+
+	public boolean isEmpty() {
+		return expiresAtByTokenHash.isEmpty();
+	}
+
+	void pruneExpired() {
+		long now = System.currentTimeMillis();
+		expiresAtByTokenHash.values().removeIf(expiresAt -> expiresAt <= now);
+	}
+}
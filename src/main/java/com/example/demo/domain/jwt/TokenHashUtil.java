@@ -0,0 +1,11 @@
+package com.example.demo.domain.jwt;
+
+import com.example.demo.common.util.HashUtil;
+
+public class TokenHashUtil {
+
+	// 토큰 원문 대신 해시를 캐시/블랙리스트 키로 사용합니다.
+	public static String hash(final String token) {
+		return HashUtil.sha256Base64Url(token);
+	}
+}
@@ -0,0 +1,18 @@
+package com.example.demo.domain.jwt;
+
+import com.example.demo.domain.auth.dto.AuthUser;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임
+ * 요청당 한 번만 파싱하고 이후에는 이 값을 전달합니다.
+ */
+public record VerifiedToken(
+	Long userId,
+	String email,
+	String type,
+	long expiresAtMillis
+) {
+	public AuthUser toAuthUser() {
+		return AuthUser.of(userId, email);
+	}
+}
@@ -0,0 +1,95 @@
+package com.example.demo.domain.jwt;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.common.cache.CacheStats;
+import com.example.demo.common.property.TokenProperty;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서명 검증이 끝난 토큰을 보관하는 캐시 (jwt.verified-cache-enabled 로 활성화)
+ * 항목은 min(토큰 만료 시각, 설정된 TTL) 까지만 유효합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+	private final TokenProperty tokenProperty;
+
+	private final Map<String, CachedToken> store = new ConcurrentHashMap<>();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	public boolean isEnabled() {
+		return tokenProperty.isVerifiedCacheEnabled();
+	}
+
+	public Optional<VerifiedToken> get(final String tokenHash) {
+		CachedToken cachedToken = store.get(tokenHash);
+		if (cachedToken == null) {
+			missCount.increment();
+			return Optional.empty();
+		}
+		if (cachedToken.isExpired(System.currentTimeMillis())) {
+			store.remove(tokenHash, cachedToken);
+			missCount.increment();
+			return Optional.empty();
+		}
+		hitCount.increment();
+		return Optional.of(cachedToken.verifiedToken());
+	}
+
+	public void put(final String tokenHash, final VerifiedToken verifiedToken) {
+		long now = System.currentTimeMillis();
+		long expiresAtMillis = Math.min(verifiedToken.expiresAtMillis(), now + tokenProperty.getVerifiedCacheTtl());
+		if (expiresAtMillis <= now) {
+			return;
+		}
+		if (store.size() >= tokenProperty.getVerifiedCacheSize()) {
+			evict(now);
+		}
+		store.put(tokenHash, new CachedToken(verifiedToken, expiresAtMillis));
+	}
+
+	/**
+	 * 로그아웃/블랙리스트 등록 시 캐시된 검증 결과를 제거합니다.
+	 */
+	public void invalidate(final String tokenHash) {
+		store.remove(tokenHash);
+	}
+
+	public CacheStats getStats() {
+		return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), store.size());
+	}
+
+	// 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 임의의 항목 하나를 제거합니다.
+	private void evict(final long now) {
+		store.entrySet().removeIf(entry -> {
+			boolean expired = entry.getValue().isExpired(now);
+			if (expired) {
+				evictionCount.increment();
+			}
+			return expired;
+		});
+		Iterator<String> iterator = store.keySet().iterator();
+		while (store.size() >= tokenProperty.getVerifiedCacheSize() && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+			evictionCount.increment();
+		}
+	}
+
+	private record CachedToken(VerifiedToken verifiedToken, long expiresAtMillis) {
+		boolean isExpired(final long now) {
+			return expiresAtMillis <= now;
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package com.example.demo.domain.quiz.attempt;
+
+import java.time.LocalDateTime;
+
+public record QuizAttemptRecord(
+	Long userId,
+	Long articleId,
+	int answeredCount,
+	int correctCount,
+	int totalQuestionCount,
+	LocalDateTime attemptedAt
+) {
+}
@@ -0,0 +1,145 @@
+package com.example.demo.domain.quiz.attempt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.common.property.QuizProperties;
+import com.example.demo.domain.quiz.repository.QuizAttemptJdbcRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채점 이력을 메모리 큐에 모았다가 JDBC 배치로 기록하는 write-behind 레코더
+ * 큐가 batchSize 이상 쌓이거나 flushInterval이 지나면 기록하고, 종료 시 남은 이력을 모두 기록합니다.
+ * 종료가 시작된 뒤 들어온 이력은 큐에 넣지 않고 버린 개수로 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizAttemptRecorder {
+
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+	private final QuizAttemptJdbcRepository quizAttemptJdbcRepository;
+	private final QuizProperties quizProperties;
+
+	private final AtomicBoolean flushRequested = new AtomicBoolean();
+	// 종료 확인과 큐 삽입(read lock)을 종료 표시(write lock)와 분리하여, 마지막 flush 이후 큐에 남는 이력이 없도록 합니다.
+	private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+	private boolean shuttingDown;
+	private final LongAdder flushedCount = new LongAdder();
+	private final LongAdder droppedCount = new LongAdder();
+	private final LongAdder failedBatchCount = new LongAdder();
+	private final AtomicLong lastFlushMillis = new AtomicLong();
+	private final AtomicLong maxFlushMillis = new AtomicLong();
+
+	private BlockingQueue<QuizAttemptRecord> attemptQueue;
+	private ScheduledExecutorService flushExecutor;
+
+	@PostConstruct
+	void start() {
+		attemptQueue = new ArrayBlockingQueue<>(quizProperties.getAttemptQueueCapacity());
+		flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "quiz-attempt-writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = quizProperties.getAttemptFlushInterval();
+		flushExecutor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 채점 이력을 큐에 넣습니다. 큐가 가득 차면 요청 지연 대신 이력을 버리고 개수를 기록합니다.
+	 */
+	public void record(QuizAttemptRecord attempt) {
+		shutdownLock.readLock().lock();
+		try {
+			if (shuttingDown) {
+				droppedCount.increment();
+				log.warn("Quiz attempt recorder is shutting down. Dropping attempt: userId={}, articleId={}",
+					attempt.userId(), attempt.articleId());
+				return;
+			}
+			if (!attemptQueue.offer(attempt)) {
+				droppedCount.increment();
+				log.warn("Quiz attempt queue is full. Dropping attempt: userId={}, articleId={}",
+					attempt.userId(), attempt.articleId());
+				return;
+			}
+		} finally {
+			shutdownLock.readLock().unlock();
+		}
+		if (attemptQueue.size() >= quizProperties.getAttemptBatchSize() && flushRequested.compareAndSet(false, true)) {
+			try {
+				flushExecutor.execute(this::flush);
+			} catch (RejectedExecutionException e) {
+				// 종료 직전에 들어온 이력은 shutdown()의 마지막 flush가 기록합니다.
+				flushRequested.set(false);
+			}
+		}
+	}
+
+	public QuizAttemptStats getStats() {
+		return new QuizAttemptStats(attemptQueue.size(), flushedCount.sum(), droppedCount.sum(),
+			failedBatchCount.sum(), lastFlushMillis.get(), maxFlushMillis.get());
+	}
+
+	@PreDestroy
+	void shutdown() throws InterruptedException {
+		// write lock을 얻으면 진행 중이던 큐 삽입이 모두 끝났고, 이후의 이력은 큐에 들어가지 않습니다.
+		shutdownLock.writeLock().lock();
+		try {
+			shuttingDown = true;
+		} finally {
+			shutdownLock.writeLock().unlock();
+		}
+		flushExecutor.shutdown();
+		if (!flushExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+			log.warn("Quiz attempt writer did not stop within {}s", SHUTDOWN_TIMEOUT_SECONDS);
+		}
+		flush();
+	}
+
+	private synchronized void flush() {
+		flushRequested.set(false);
+		int batchSize = quizProperties.getAttemptBatchSize();
+		List<QuizAttemptRecord> batch = new ArrayList<>(batchSize);
+		while (attemptQueue.drainTo(batch, batchSize) > 0) {
+			writeBatch(batch);
+			batch.clear();
+		}
+	}
+
+	private void writeBatch(List<QuizAttemptRecord> batch) {
+		long startedAt = System.nanoTime();
+		try {
+			quizAttemptJdbcRepository.batchInsert(batch);
+			flushedCount.add(batch.size());
+		} catch (RuntimeException e) {
+			// 스케줄러 스레드가 멈추지 않도록 실패한 배치만 버립니다.
+			droppedCount.add(batch.size());
+			failedBatchCount.increment();
+			log.error("Failed to write quiz attempts. Dropping batch: size={}, failedBatches={}, droppedAttempts={}",
+				batch.size(), failedBatchCount.sum(), droppedCount.sum(), e);
+		}
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+		lastFlushMillis.set(elapsedMillis);
+		maxFlushMillis.accumulateAndGet(elapsedMillis, Math::max);
+	}
+}
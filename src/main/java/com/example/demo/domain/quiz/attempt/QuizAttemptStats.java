@@ -0,0 +1,11 @@
+package com.example.demo.domain.quiz.attempt;
+
+public record QuizAttemptStats(
+	int queueDepth,
+	long flushedCount,
+	long droppedCount,
+	long failedBatchCount,
+	long lastFlushMillis,
+	long maxFlushMillis
+) {
+}
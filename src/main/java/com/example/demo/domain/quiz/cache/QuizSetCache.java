@@ -0,0 +1,114 @@
+package com.example.demo.domain.quiz.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.common.cache.CacheStats;
+import com.example.demo.common.cache.LruCache;
+import com.example.demo.common.property.QuizProperties;
+import com.example.demo.domain.quiz.entity.QuizQuestion;
+import com.example.demo.domain.quiz.event.QuizChangedEvent;
+import com.example.demo.domain.quiz.repository.QuizQuestionRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기사 id별 퀴즈 세트 read-through 캐시
+ * 퀴즈 업로드 트랜잭션이 커밋된 뒤 QuizChangedEvent로 무효화됩니다.
+ * 캐시 적중 시에는 트랜잭션을 열지 않고, DB에서 불러올 때만 읽기 전용 트랜잭션을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizSetCache {
+
+	private final QuizQuestionRepository quizQuestionRepository;
+	private final QuizProperties quizProperties;
+	private final PlatformTransactionManager transactionManager;
+
+	// 조회 중 무효화가 일어나면 오래된 스냅샷을 캐시에 넣지 않기 위한 순번
+	private final AtomicLong invalidationSequence = new AtomicLong();
+
+	private LruCache<Long, QuizSetSnapshot> quizSetCache;
+
+	private TransactionTemplate readOnlyTransaction;
+
+	@PostConstruct
+	void initCache() {
+		quizSetCache = new LruCache<>(quizProperties.getCacheSize());
+		readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+	}
+
+	public QuizSetSnapshot getQuizSet(Long articleId) {
+		return quizSetCache.get(articleId).orElseGet(() -> loadQuizSet(articleId));
+	}
+
+	/**
+	 * 여러 기사의 퀴즈 세트를 조회합니다. 캐시에 없는 기사들은 한 번의 쿼리로 불러옵니다.
+	 */
+	public Map<Long, QuizSetSnapshot> getQuizSets(Collection<Long> articleIds) {
+		Map<Long, QuizSetSnapshot> quizSets = new HashMap<>();
+		List<Long> missingArticleIds = new ArrayList<>();
+		for (Long articleId : articleIds) {
+			quizSetCache.get(articleId).ifPresentOrElse(
+				quizSet -> quizSets.put(articleId, quizSet),
+				() -> missingArticleIds.add(articleId));
+		}
+		if (!missingArticleIds.isEmpty()) {
+			quizSets.putAll(loadQuizSets(missingArticleIds));
+		}
+		return quizSets;
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleQuizChanged(QuizChangedEvent event) {
+		invalidationSequence.incrementAndGet();
+		event.articleIds().forEach(quizSetCache::remove);
+	}
+
+	public CacheStats getStats() {
+		return quizSetCache.stats();
+	}
+
+	private Map<Long, QuizSetSnapshot> loadQuizSets(List<Long> articleIds) {
+		long sequence = invalidationSequence.get();
+		Map<Long, List<QuizQuestion>> questionsByArticleId = readOnlyTransaction.execute(
+			status -> quizQuestionRepository.findByArticleIdIn(articleIds)
+				.stream()
+				.collect(Collectors.groupingBy(quizQuestion -> quizQuestion.getArticle().getId())));
+
+		Map<Long, QuizSetSnapshot> quizSets = new HashMap<>();
+		for (Long articleId : articleIds) {
+			QuizSetSnapshot snapshot = QuizSetSnapshot.from(questionsByArticleId.getOrDefault(articleId, List.of()));
+			quizSets.put(articleId, snapshot);
+			quizSetCache.put(articleId, snapshot);
+		}
+		if (sequence != invalidationSequence.get()) {
+			articleIds.forEach(quizSetCache::remove);
+		}
+		return quizSets;
+	}
+
+	private QuizSetSnapshot loadQuizSet(Long articleId) {
+		long sequence = invalidationSequence.get();
+		QuizSetSnapshot snapshot = readOnlyTransaction.execute(
+			status -> QuizSetSnapshot.from(quizQuestionRepository.findByArticleId(articleId)));
+		quizSetCache.put(articleId, snapshot);
+		if (sequence != invalidationSequence.get()) {
+			quizSetCache.remove(articleId);
+		}
+		return snapshot;
+	}
+}
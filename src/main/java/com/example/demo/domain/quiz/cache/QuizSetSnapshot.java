@@ -0,0 +1,113 @@
+package com.example.demo.domain.quiz.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+import com.example.demo.domain.quiz.dto.response.QuizQuestionDto;
+import com.example.demo.domain.quiz.dto.response.QuizResultDto;
+import com.example.demo.domain.quiz.entity.QuizQuestion;
+import com.example.demo.domain.quiz.util.QuizOptionCodec;
+
+/**
+ * 기사 하나의 퀴즈 세트를 원시 배열로 압축한 불변 스냅샷
+ * 문제 id는 오름차순으로 정렬되어 있어 이진 탐색으로 찾을 수 있습니다.
+ * 객관식 보기는 인코딩된 문자열 그대로 두고, 문제 조회 응답을 만들 때만 풀어냅니다.
+ */
+public final class QuizSetSnapshot {
+
+	private final long[] questionIds;
+	private final String[] questions;
+	private final BitSet correctAnswers;
+	// 객관식 정답 보기의 위치, OX 문제는 NOT_MULTIPLE_CHOICE
+	private final byte[] correctOptionIndexes;
+	private final String[] encodedOptions;
+
+	private static final byte NOT_MULTIPLE_CHOICE = -1;
+
+	private QuizSetSnapshot(long[] questionIds, String[] questions, BitSet correctAnswers,
+		byte[] correctOptionIndexes, String[] encodedOptions) {
+		this.questionIds = questionIds;
+		this.questions = questions;
+		this.correctAnswers = correctAnswers;
+		this.correctOptionIndexes = correctOptionIndexes;
+		this.encodedOptions = encodedOptions;
+	}
+
+	public static QuizSetSnapshot from(List<QuizQuestion> quizQuestions) {
+		List<QuizQuestion> sortedQuestions = new ArrayList<>(quizQuestions);
+		sortedQuestions.sort(Comparator.comparing(QuizQuestion::getId));
+
+		int size = sortedQuestions.size();
+		long[] questionIds = new long[size];
+		String[] questions = new String[size];
+		BitSet correctAnswers = new BitSet(size);
+		byte[] correctOptionIndexes = new byte[size];
+		String[] encodedOptions = new String[size];
+		for (int index = 0; index < size; index++) {
+			QuizQuestion quizQuestion = sortedQuestions.get(index);
+			questionIds[index] = quizQuestion.getId();
+			questions[index] = quizQuestion.getQuestion();
+			correctAnswers.set(index, Boolean.TRUE.equals(quizQuestion.getCorrectAnswer()));
+			if (quizQuestion.isMultipleChoice() && quizQuestion.getCorrectOptionIndex() != null) {
+				correctOptionIndexes[index] = quizQuestion.getCorrectOptionIndex().byteValue();
+				encodedOptions[index] = quizQuestion.getEncodedOptions();
+			} else {
+				correctOptionIndexes[index] = NOT_MULTIPLE_CHOICE;
+			}
+		}
+		return new QuizSetSnapshot(questionIds, questions, correctAnswers, correctOptionIndexes, encodedOptions);
+	}
+
+	public int size() {
+		return questionIds.length;
+	}
+
+	public boolean isEmpty() {
+		return questionIds.length == 0;
+	}
+
+	public long questionIdAt(int index) {
+		return questionIds[index];
+	}
+
+	// 문제 id의 위치, 없으면 음수
+	public int indexOf(long questionId) {
+		return Arrays.binarySearch(questionIds, questionId);
+	}
+
+	public boolean correctAnswerAt(int index) {
+		return correctAnswers.get(index);
+	}
+
+	public boolean isMultipleChoiceAt(int index) {
+		return correctOptionIndexes[index] != NOT_MULTIPLE_CHOICE;
+	}
+
+	public int correctOptionIndexAt(int index) {
+		return correctOptionIndexes[index];
+	}
+
+	public List<QuizQuestionDto> toQuestionDtos() {
+		List<QuizQuestionDto> questionDtos = new ArrayList<>(size());
+		for (int index = 0; index < size(); index++) {
+			questionDtos.add(isMultipleChoiceAt(index)
+				? QuizQuestionDto.multipleChoice(questionIds[index], questions[index],
+					QuizOptionCodec.decode(encodedOptions[index]))
+				: QuizQuestionDto.ox(questionIds[index], questions[index]));
+		}
+		return questionDtos;
+	}
+
+	public List<QuizResultDto> toAnswerResults() {
+		List<QuizResultDto> results = new ArrayList<>(size());
+		for (int index = 0; index < size(); index++) {
+			results.add(isMultipleChoiceAt(index)
+				? QuizResultDto.ofOption(questionIds[index], correctOptionIndexAt(index))
+				: QuizResultDto.of(questionIds[index], correctAnswers.get(index)));
+		}
+		return results;
+	}
+}
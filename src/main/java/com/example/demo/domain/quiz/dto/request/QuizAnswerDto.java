@@ -2,6 +2,7 @@ package com.example.demo.domain.quiz.dto.request;
 
 public record QuizAnswerDto(
 	Long id,
-	Boolean answer
+	Boolean answer,       // OX 답안
+	Integer optionIndex   // 객관식 답안 (선택한 보기의 위치, 0부터)
 ) {
-} 
\ No newline at end of file
+}
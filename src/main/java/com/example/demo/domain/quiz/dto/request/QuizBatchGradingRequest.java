@@ -0,0 +1,8 @@
+package com.example.demo.domain.quiz.dto.request;
+
+import java.util.List;
+
+public record QuizBatchGradingRequest(
+	List<QuizGradingRequest> submissions
+) {
+}
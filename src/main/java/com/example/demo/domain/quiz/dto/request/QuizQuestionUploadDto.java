@@ -1,8 +1,32 @@
 package com.example.demo.domain.quiz.dto.request;
 
+import java.util.List;
+
+import com.example.demo.domain.quiz.entity.QuizQuestionType;
+
 public record QuizQuestionUploadDto(
 	Long id,
 	String question,
-	Boolean correctAnswer
+	Boolean correctAnswer,         // OX 정답
+	QuizQuestionType quizType,     // 없으면 OX
+	List<String> options,          // 객관식 보기 목록
+	Integer correctOptionIndex     // 객관식 정답 보기의 위치 (0부터)
 ) {
-} 
\ No newline at end of file
+	public static QuizQuestionUploadDto ox(Long id, String question, Boolean correctAnswer) {
+		return new QuizQuestionUploadDto(id, question, correctAnswer, QuizQuestionType.OX, null, null);
+	}
+
+	public static QuizQuestionUploadDto multipleChoice(Long id, String question, List<String> options,
+		Integer correctOptionIndex) {
+		return new QuizQuestionUploadDto(id, question, null, QuizQuestionType.MULTIPLE_CHOICE, options,
+			correctOptionIndex);
+	}
+
+	public boolean isMultipleChoice() {
+		return quizType == QuizQuestionType.MULTIPLE_CHOICE;
+	}
+
+	public QuizQuestionUploadDto withId(Long id) {
+		return new QuizQuestionUploadDto(id, question, correctAnswer, quizType, options, correctOptionIndex);
+	}
+}
@@ -0,0 +1,13 @@
+package com.example.demo.domain.quiz.dto.response;
+
+public record QuestionStatsDto(
+	Long questionId,
+	long attemptCount,
+	long correctCount,
+	double correctRate
+) {
+	public static QuestionStatsDto of(Long questionId, long attemptCount, long correctCount) {
+		double correctRate = attemptCount == 0 ? 0.0 : (double)correctCount / attemptCount;
+		return new QuestionStatsDto(questionId, attemptCount, correctCount, correctRate);
+	}
+}
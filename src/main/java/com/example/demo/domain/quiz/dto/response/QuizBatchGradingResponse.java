@@ -0,0 +1,13 @@
+package com.example.demo.domain.quiz.dto.response;
+
+import java.util.List;
+
+public record QuizBatchGradingResponse(
+	List<QuizGradingResponse> results,
+	List<QuizQuestionStatDto> questionStats
+) {
+	public static QuizBatchGradingResponse of(List<QuizGradingResponse> results,
+		List<QuizQuestionStatDto> questionStats) {
+		return new QuizBatchGradingResponse(results, questionStats);
+	}
+}
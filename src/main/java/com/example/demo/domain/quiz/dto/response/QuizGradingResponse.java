@@ -2,11 +2,38 @@ package com.example.demo.domain.quiz.dto.response;
 
 import java.util.List;
 
+import com.example.demo.domain.quiz.grading.GradedSubmission;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"articleId", "results", "correctCount", "totalQuestionCount"})
 public record QuizGradingResponse(
 	Long articleId,
-	List<QuizResultDto> results
+	@JsonIgnore List<QuizResultDto> answerResults,
+	@JsonIgnore GradedSubmission gradedSubmission,
+	Integer correctCount,
+	Integer totalQuestionCount
 ) {
 	public static QuizGradingResponse of(Long articleId, List<QuizResultDto> results) {
-		return new QuizGradingResponse(articleId, results);
+		return new QuizGradingResponse(articleId, results, null, null, null);
+	}
+
+	public static QuizGradingResponse of(Long articleId, GradedSubmission gradedSubmission) {
+		return new QuizGradingResponse(
+			articleId,
+			null,
+			gradedSubmission,
+			gradedSubmission.correctCount(),
+			gradedSubmission.answerKey().size()
+		);
+	}
+
+	// 채점 결과의 문제별 DTO는 직렬화 시점에 생성합니다.
+	@JsonGetter("results")
+	public List<QuizResultDto> results() {
+		return gradedSubmission != null ? gradedSubmission.toResults() : answerResults;
 	}
-} 
\ No newline at end of file
+}
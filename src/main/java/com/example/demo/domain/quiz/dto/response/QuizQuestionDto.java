@@ -1,15 +1,31 @@
 package com.example.demo.domain.quiz.dto.response;
 
+import java.util.List;
+
 import com.example.demo.domain.quiz.entity.QuizQuestion;
+import com.example.demo.domain.quiz.entity.QuizQuestionType;
+import com.example.demo.domain.quiz.util.QuizOptionCodec;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record QuizQuestionDto(
 	Long id,
-	String question
+	String question,
+	QuizQuestionType quizType,
+	List<String> options  // 객관식만
 ) {
 	public static QuizQuestionDto from(QuizQuestion quizQuestion) {
-		return new QuizQuestionDto(
-			quizQuestion.getId(),
-			quizQuestion.getQuestion()
-		);
+		return quizQuestion.isMultipleChoice()
+			? multipleChoice(quizQuestion.getId(), quizQuestion.getQuestion(),
+				QuizOptionCodec.decode(quizQuestion.getEncodedOptions()))
+			: ox(quizQuestion.getId(), quizQuestion.getQuestion());
+	}
+
+	public static QuizQuestionDto ox(Long id, String question) {
+		return new QuizQuestionDto(id, question, QuizQuestionType.OX, null);
+	}
+
+	public static QuizQuestionDto multipleChoice(Long id, String question, List<String> options) {
+		return new QuizQuestionDto(id, question, QuizQuestionType.MULTIPLE_CHOICE, options);
 	}
-} 
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package com.example.demo.domain.quiz.dto.response;
+
+public record QuizQuestionStatDto(
+	Long articleId,
+	Long questionId,
+	int answeredCount,
+	int correctCount
+) {
+	public static QuizQuestionStatDto of(Long articleId, Long questionId, int answeredCount, int correctCount) {
+		return new QuizQuestionStatDto(articleId, questionId, answeredCount, correctCount);
+	}
+}
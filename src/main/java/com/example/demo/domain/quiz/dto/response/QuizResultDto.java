@@ -1,10 +1,18 @@
 package com.example.demo.domain.quiz.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record QuizResultDto(
 	Long id,
-	Boolean correctAnswer
+	Boolean correctAnswer,
+	Integer correctOptionIndex  // 정답 조회 시 객관식 정답 보기의 위치
 ) {
 	public static QuizResultDto of(Long id, Boolean correctAnswer) {
-		return new QuizResultDto(id, correctAnswer);
+		return new QuizResultDto(id, correctAnswer, null);
+	}
+
+	public static QuizResultDto ofOption(Long id, Integer correctOptionIndex) {
+		return new QuizResultDto(id, null, correctOptionIndex);
 	}
-} 
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package com.example.demo.domain.quiz.dto.response;
+
+import java.util.List;
+
+public record QuizStatsResponse(
+	Long articleId,
+	long completionCount,
+	List<QuestionStatsDto> questionStats
+) {
+	public static QuizStatsResponse of(Long articleId, long completionCount, List<QuestionStatsDto> questionStats) {
+		return new QuizStatsResponse(articleId, completionCount, questionStats);
+	}
+}
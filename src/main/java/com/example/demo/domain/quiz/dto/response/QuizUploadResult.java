@@ -0,0 +1,14 @@
+package com.example.demo.domain.quiz.dto.response;
+
+public record QuizUploadResult(
+	Long articleId,
+	int insertedCount,
+	int updatedCount,
+	int deletedCount,
+	int unchangedCount
+) {
+	public static QuizUploadResult of(Long articleId, int insertedCount, int updatedCount, int deletedCount,
+		int unchangedCount) {
+		return new QuizUploadResult(articleId, insertedCount, updatedCount, deletedCount, unchangedCount);
+	}
+}
@@ -0,0 +1,24 @@
+package com.example.demo.domain.quiz.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 기사별 누적 퀴즈 완료 수 (QuizStatsAggregator가 주기적으로 합산)
+@Entity
+@Getter
+@Table(name = "article_quiz_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleQuizStats {
+
+	@Id
+	@Column(name = "article_id")
+	private Long articleId;
+
+	@Column(name = "completion_count", nullable = false)
+	private long completionCount;
+}
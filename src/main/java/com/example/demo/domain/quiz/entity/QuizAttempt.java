@@ -0,0 +1,41 @@
+package com.example.demo.domain.quiz.entity;
+
+import com.example.demo.common.base.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 채점 이력 (QuizAttemptRecorder가 JDBC 배치로 기록)
+@Entity
+@Getter
+@Table(name = "quiz_attempt", indexes = @Index(name = "idx_quiz_attempt_user_id", columnList = "user_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QuizAttempt extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "article_id", nullable = false)
+	private Long articleId;
+
+	@Column(name = "answered_count", nullable = false)
+	private int answeredCount;
+
+	@Column(name = "correct_count", nullable = false)
+	private int correctCount;
+
+	@Column(name = "total_question_count", nullable = false)
+	private int totalQuestionCount;
+}
@@ -5,6 +5,8 @@ import com.example.demo.domain.article.entity.Article;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -35,14 +37,33 @@ public class QuizQuestion extends BaseEntity {
 	@Column(name = "question", nullable = false, columnDefinition = "TEXT")
 	private String question;
 
-	@Column(name = "correct_answer", nullable = false)
+	// 기존 데이터 호환을 위해 null은 OX로 취급합니다.
+	@Enumerated(EnumType.STRING)
+	@Column(name = "quiz_type", length = 20)
+	private QuizQuestionType quizType;
+
+	// OX 정답 (객관식은 null)
+	@Column(name = "correct_answer")
 	private Boolean correctAnswer;
 
+	// 객관식 보기 목록 (QuizOptionCodec으로 인코딩, OX는 null)
+	@Column(name = "encoded_options", columnDefinition = "TEXT")
+	private String encodedOptions;
+
+	// 객관식 정답 보기의 위치 (0부터, OX는 null)
+	@Column(name = "correct_option_index")
+	private Integer correctOptionIndex;
+
 	public static QuizQuestion of(Article article, String question, Boolean correctAnswer) {
 		return QuizQuestion.builder()
 			.article(article)
+			.quizType(QuizQuestionType.OX)
 			.question(question)
 			.correctAnswer(correctAnswer)
 			.build();
 	}
+
+	public boolean isMultipleChoice() {
+		return quizType == QuizQuestionType.MULTIPLE_CHOICE;
+	}
 } 
\ No newline at end of file
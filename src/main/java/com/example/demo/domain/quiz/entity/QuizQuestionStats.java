@@ -0,0 +1,31 @@
+package com.example.demo.domain.quiz.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 문제별 누적 응답/정답 수 (QuizStatsAggregator가 주기적으로 합산)
+@Entity
+@Getter
+@Table(name = "quiz_question_stats", indexes = @Index(name = "idx_quiz_question_stats_article_id", columnList = "article_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QuizQuestionStats {
+
+	@Id
+	@Column(name = "question_id")
+	private Long questionId;
+
+	@Column(name = "article_id", nullable = false)
+	private Long articleId;
+
+	@Column(name = "attempt_count", nullable = false)
+	private long attemptCount;
+
+	@Column(name = "correct_count", nullable = false)
+	private long correctCount;
+}
@@ -0,0 +1,6 @@
+package com.example.demo.domain.quiz.entity;
+
+public enum QuizQuestionType {
+	OX,              // 참/거짓 (correctAnswer)
+	MULTIPLE_CHOICE  // 객관식 (options + correctOptionIndex)
+}
@@ -0,0 +1,12 @@
+package com.example.demo.domain.quiz.event;
+
+import java.util.Collection;
+
+// 퀴즈 문제가 변경된 기사 id 목록 (커밋 후 캐시 무효화에 사용)
+public record QuizChangedEvent(
+	Collection<Long> articleIds
+) {
+	public static QuizChangedEvent of(Collection<Long> articleIds) {
+		return new QuizChangedEvent(articleIds);
+	}
+}
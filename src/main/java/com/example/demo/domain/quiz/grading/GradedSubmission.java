@@ -0,0 +1,36 @@
+package com.example.demo.domain.quiz.grading;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import com.example.demo.domain.quiz.cache.QuizSetSnapshot;
+import com.example.demo.domain.quiz.dto.response.QuizResultDto;
+
+/**
+ * 답안 하나(제출 하나)의 채점 결과
+ * questionIndexes[i]는 i번째 답안이 가리키는 정답 키의 위치, correctAnswers의 i번째 비트는 정답 여부입니다.
+ */
+public record GradedSubmission(
+	QuizSetSnapshot answerKey,
+	int[] questionIndexes,
+	BitSet correctAnswers,
+	int correctCount
+) {
+	public int answerCount() {
+		return questionIndexes.length;
+	}
+
+	public boolean isCorrect(int answerPosition) {
+		return correctAnswers.get(answerPosition);
+	}
+
+	// 응답 DTO는 결과가 필요한 시점에만 생성합니다.
+	public List<QuizResultDto> toResults() {
+		List<QuizResultDto> results = new ArrayList<>(questionIndexes.length);
+		for (int position = 0; position < questionIndexes.length; position++) {
+			results.add(QuizResultDto.of(answerKey.questionIdAt(questionIndexes[position]), correctAnswers.get(position)));
+		}
+		return results;
+	}
+}
@@ -0,0 +1,41 @@
+package com.example.demo.domain.quiz.grading;
+
+import java.util.List;
+
+import com.example.demo.domain.quiz.cache.QuizSetSnapshot;
+import com.example.demo.domain.quiz.dto.response.QuizQuestionStatDto;
+
+/**
+ * 한 기사에 대한 여러 제출의 문제별 응답/정답 수 집계
+ */
+public final class QuestionTally {
+
+	private final Long articleId;
+	private final QuizSetSnapshot answerKey;
+	private final int[] answeredCounts;
+	private final int[] correctCounts;
+
+	public QuestionTally(Long articleId, QuizSetSnapshot answerKey) {
+		this.articleId = articleId;
+		this.answerKey = answerKey;
+		this.answeredCounts = new int[answerKey.size()];
+		this.correctCounts = new int[answerKey.size()];
+	}
+
+	public void add(GradedSubmission gradedSubmission) {
+		int[] questionIndexes = gradedSubmission.questionIndexes();
+		for (int position = 0; position < questionIndexes.length; position++) {
+			answeredCounts[questionIndexes[position]]++;
+			if (gradedSubmission.isCorrect(position)) {
+				correctCounts[questionIndexes[position]]++;
+			}
+		}
+	}
+
+	public void addTo(List<QuizQuestionStatDto> questionStats) {
+		for (int index = 0; index < answeredCounts.length; index++) {
+			questionStats.add(QuizQuestionStatDto.of(articleId, answerKey.questionIdAt(index), answeredCounts[index],
+				correctCounts[index]));
+		}
+	}
+}
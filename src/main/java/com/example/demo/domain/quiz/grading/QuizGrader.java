@@ -0,0 +1,57 @@
+package com.example.demo.domain.quiz.grading;
+
+import java.util.BitSet;
+import java.util.List;
+
+import com.example.demo.common.error.ErrorCode;
+import com.example.demo.common.error.exception.AppException;
+import com.example.demo.domain.quiz.cache.QuizSetSnapshot;
+import com.example.demo.domain.quiz.dto.request.QuizAnswerDto;
+
+/**
+ * 기사별 정답 키(정렬된 문제 id 배열 + 정답 BitSet)로 답안을 채점합니다.
+ * 중간 Map이나 박싱 없이 한 번의 순회로 정답 여부와 점수를 함께 계산합니다.
+ */
+public final class QuizGrader {
+
+	private QuizGrader() {
+	}
+
+	/**
+	 * @throws AppException 정답 키에 없는 문제 id나 같은 문제 id가 두 번 이상 포함된 경우 BAD_REQUEST_EXCEPTION
+	 */
+	public static GradedSubmission grade(QuizSetSnapshot answerKey, List<QuizAnswerDto> answers) {
+		int answerCount = answers.size();
+		int[] questionIndexes = new int[answerCount];
+		BitSet correctAnswers = new BitSet(answerCount);
+		// 같은 문제를 여러 번 답해 정답 수가 문제 수를 넘지 않도록 이미 채점한 위치를 기록
+		BitSet gradedIndexes = new BitSet(answerKey.size());
+		int correctCount = 0;
+
+		for (int position = 0; position < answerCount; position++) {
+			QuizAnswerDto answer = answers.get(position);
+			int index = answer.id() == null ? -1 : answerKey.indexOf(answer.id());
+			if (index < 0 || gradedIndexes.get(index)) {
+				throw new AppException(ErrorCode.BAD_REQUEST_EXCEPTION);
+			}
+			gradedIndexes.set(index);
+			questionIndexes[position] = index;
+
+			if (isCorrect(answerKey, index, answer)) {
+				correctAnswers.set(position);
+				correctCount++;
+			}
+		}
+		return new GradedSubmission(answerKey, questionIndexes, correctAnswers, correctCount);
+	}
+
+	// 객관식은 선택한 보기 위치, OX는 참/거짓 답안으로 비교합니다.
+	private static boolean isCorrect(QuizSetSnapshot answerKey, int index, QuizAnswerDto answer) {
+		if (answerKey.isMultipleChoiceAt(index)) {
+			Integer optionIndex = answer.optionIndex();
+			return optionIndex != null && optionIndex == answerKey.correctOptionIndexAt(index);
+		}
+		Boolean submitted = answer.answer();
+		return submitted != null && submitted == answerKey.correctAnswerAt(index);
+	}
+}
@@ -0,0 +1,35 @@
+package com.example.demo.domain.quiz.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.demo.domain.quiz.attempt.QuizAttemptRecord;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class QuizAttemptJdbcRepository {
+
+	private static final String INSERT_SQL = "INSERT INTO quiz_attempt "
+		+ "(user_id, article_id, answered_count, correct_count, total_question_count, created_at, updated_at) "
+		+ "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void batchInsert(List<QuizAttemptRecord> attempts) {
+		jdbcTemplate.batchUpdate(INSERT_SQL, attempts, attempts.size(), (ps, attempt) -> {
+			Timestamp attemptedAt = Timestamp.valueOf(attempt.attemptedAt());
+			ps.setLong(1, attempt.userId());
+			ps.setLong(2, attempt.articleId());
+			ps.setInt(3, attempt.answeredCount());
+			ps.setInt(4, attempt.correctCount());
+			ps.setInt(5, attempt.totalQuestionCount());
+			ps.setTimestamp(6, attemptedAt);
+			ps.setTimestamp(7, attemptedAt);
+		});
+	}
+}
@@ -0,0 +1,87 @@
+package com.example.demo.domain.quiz.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.demo.domain.quiz.dto.request.QuizQuestionUploadDto;
+import com.example.demo.domain.quiz.dto.request.QuizUploadRequest;
+import com.example.demo.domain.quiz.entity.QuizQuestionType;
+import com.example.demo.domain.quiz.util.QuizOptionCodec;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 퀴즈 문제 대량 INSERT를 JDBC 배치로 처리합니다. (IDENTITY 키는 Hibernate 배치 INSERT 불가)
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuizQuestionJdbcRepository {
+
+	private static final int BATCH_SIZE = 500;
+
+	private static final String INSERT_SQL = "INSERT INTO quiz_question "
+		+ "(article_id, question, quiz_type, correct_answer, encoded_options, correct_option_index, "
+		+ "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String UPDATE_SQL = "UPDATE quiz_question "
+		+ "SET question = ?, quiz_type = ?, correct_answer = ?, encoded_options = ?, correct_option_index = ?, "
+		+ "updated_at = ? WHERE id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void batchInsert(List<QuizUploadRequest> requests) {
+		List<QuizQuestionRow> rows = requests.stream()
+			.flatMap(request -> request.questions().stream()
+				.map(question -> new QuizQuestionRow(request.articleId(), question)))
+			.toList();
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+			ps.setLong(1, row.articleId());
+			ps.setString(2, row.question().question());
+			setAnswerColumns(ps, 3, row.question());
+			ps.setTimestamp(7, now);
+			ps.setTimestamp(8, now);
+		});
+	}
+
+	/**
+	 * id가 지정된 문제들의 내용을 배치로 갱신합니다.
+	 */
+	public void batchUpdate(List<QuizQuestionUploadDto> questions) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		jdbcTemplate.batchUpdate(UPDATE_SQL, questions, BATCH_SIZE, (ps, question) -> {
+			ps.setString(1, question.question());
+			setAnswerColumns(ps, 2, question);
+			ps.setTimestamp(6, now);
+			ps.setLong(7, question.id());
+		});
+	}
+
+	// quiz_type, correct_answer, encoded_options, correct_option_index 순서로 설정합니다.
+	private void setAnswerColumns(PreparedStatement ps, int startIndex, QuizQuestionUploadDto question)
+		throws SQLException {
+		if (question.isMultipleChoice()) {
+			ps.setString(startIndex, QuizQuestionType.MULTIPLE_CHOICE.name());
+			ps.setNull(startIndex + 1, Types.BOOLEAN);
+			ps.setString(startIndex + 2, QuizOptionCodec.encode(question.options()));
+			ps.setInt(startIndex + 3, question.correctOptionIndex());
+		} else {
+			ps.setString(startIndex, QuizQuestionType.OX.name());
+			ps.setBoolean(startIndex + 1, question.correctAnswer());
+			ps.setNull(startIndex + 2, Types.VARCHAR);
+			ps.setNull(startIndex + 3, Types.INTEGER);
+		}
+	}
+
+	private record QuizQuestionRow(Long articleId, QuizQuestionUploadDto question) {
+	}
+}
@@ -1,8 +1,10 @@
 package com.example.demo.domain.quiz.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,6 +15,17 @@ public interface QuizQuestionRepository extends JpaRepository<QuizQuestion, Long
 	@Query("SELECT q FROM QuizQuestion q WHERE q.article.id = :articleId")
 	List<QuizQuestion> findByArticleId(@Param("articleId") Long articleId);
 	
+	@Query("SELECT COUNT(q) > 0 FROM QuizQuestion q WHERE q.article.id = :articleId")
+	boolean existsByArticleId(@Param("articleId") Long articleId);
+	
+	@Query("SELECT q FROM QuizQuestion q WHERE q.article.id IN :articleIds")
+	List<QuizQuestion> findByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
+	
 	@Query("SELECT q FROM QuizQuestion q WHERE q.article.articleId = :articleId")
 	List<QuizQuestion> findByArticleArticleId(@Param("articleId") String articleId);
+
+	// 여러 기사의 퀴즈를 DELETE 한 문장으로 삭제
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("DELETE FROM QuizQuestion q WHERE q.article.id IN :articleIds")
+	int deleteAllByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
 } 
\ No newline at end of file
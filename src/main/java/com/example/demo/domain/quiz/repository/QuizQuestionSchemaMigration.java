@@ -0,0 +1,59 @@
+package com.example.demo.domain.quiz.repository;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Locale;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.common.jdbc.DatabaseDialect;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 객관식 문제 도입으로 nullable이 된 quiz_question.correct_answer의 NOT NULL 제약을 제거합니다.
+ * ddl-auto=update는 기존 컬럼의 제약을 바꾸지 않으므로, 스키마 갱신 직후 한 번 확인하여 필요할 때만 ALTER 합니다.
+ * 수동으로 적용하려면 MySQL에서 ALTER TABLE quiz_question MODIFY correct_answer BIT NULL 을 실행합니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class QuizQuestionSchemaMigration {
+
+	private static final String TABLE_NAME = "quiz_question";
+	private static final String COLUMN_NAME = "correct_answer";
+
+	private static final String MYSQL_DROP_NOT_NULL_SQL = "ALTER TABLE quiz_question MODIFY correct_answer BIT NULL";
+	private static final String DROP_NOT_NULL_SQL = "ALTER TABLE quiz_question ALTER COLUMN correct_answer SET NULL";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final DatabaseDialect databaseDialect;
+
+	@PostConstruct
+	void dropCorrectAnswerNotNull() {
+		if (!isNotNull()) {
+			return;
+		}
+		jdbcTemplate.execute(databaseDialect.isMySql() ? MYSQL_DROP_NOT_NULL_SQL : DROP_NOT_NULL_SQL);
+		log.info("Dropped NOT NULL constraint on {}.{}", TABLE_NAME, COLUMN_NAME);
+	}
+
+	private boolean isNotNull() {
+		return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>)(Connection connection) -> {
+			DatabaseMetaData metaData = connection.getMetaData();
+			boolean upperCase = metaData.storesUpperCaseIdentifiers();
+			try (ResultSet columns = metaData.getColumns(connection.getCatalog(), connection.getSchema(),
+				upperCase ? TABLE_NAME.toUpperCase(Locale.ROOT) : TABLE_NAME,
+				upperCase ? COLUMN_NAME.toUpperCase(Locale.ROOT) : COLUMN_NAME)) {
+				return columns.next() && columns.getInt("NULLABLE") == DatabaseMetaData.columnNoNulls;
+			}
+		}));
+	}
+}
@@ -0,0 +1,77 @@
+package com.example.demo.domain.quiz.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.demo.common.jdbc.DatabaseDialect;
+import com.example.demo.domain.quiz.stats.ArticleStatsDelta;
+import com.example.demo.domain.quiz.stats.QuestionStatsDelta;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 통계 테이블에 증가분을 더하는 UPSERT (MySQL: ON DUPLICATE KEY UPDATE, 그 외: MERGE)
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuizStatsJdbcRepository {
+
+	private static final String MYSQL_QUESTION_UPSERT_SQL = "INSERT INTO quiz_question_stats "
+		+ "(question_id, article_id, attempt_count, correct_count) VALUES (?, ?, ?, ?) AS new "
+		+ "ON DUPLICATE KEY UPDATE attempt_count = attempt_count + new.attempt_count, "
+		+ "correct_count = correct_count + new.correct_count";
+
+	private static final String MERGE_QUESTION_UPSERT_SQL = "MERGE INTO quiz_question_stats t "
+		+ "USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT))) "
+		+ "AS s(question_id, article_id, attempt_count, correct_count) ON t.question_id = s.question_id "
+		+ "WHEN MATCHED THEN UPDATE SET attempt_count = t.attempt_count + s.attempt_count, "
+		+ "correct_count = t.correct_count + s.correct_count "
+		+ "WHEN NOT MATCHED THEN INSERT (question_id, article_id, attempt_count, correct_count) "
+		+ "VALUES (s.question_id, s.article_id, s.attempt_count, s.correct_count)";
+
+	private static final String MYSQL_ARTICLE_UPSERT_SQL = "INSERT INTO article_quiz_stats "
+		+ "(article_id, completion_count) VALUES (?, ?) AS new "
+		+ "ON DUPLICATE KEY UPDATE completion_count = completion_count + new.completion_count";
+
+	private static final String MERGE_ARTICLE_UPSERT_SQL = "MERGE INTO article_quiz_stats t "
+		+ "USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT))) AS s(article_id, completion_count) "
+		+ "ON t.article_id = s.article_id "
+		+ "WHEN MATCHED THEN UPDATE SET completion_count = t.completion_count + s.completion_count "
+		+ "WHEN NOT MATCHED THEN INSERT (article_id, completion_count) VALUES (s.article_id, s.completion_count)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final DatabaseDialect databaseDialect;
+
+	public void addQuestionStats(List<QuestionStatsDelta> deltas) {
+		String sql = databaseDialect.isMySql() ? MYSQL_QUESTION_UPSERT_SQL : MERGE_QUESTION_UPSERT_SQL;
+		jdbcTemplate.batchUpdate(sql, deltas, deltas.size(), (ps, delta) -> {
+			ps.setLong(1, delta.questionId());
+			ps.setLong(2, delta.articleId());
+			ps.setLong(3, delta.attemptCount());
+			ps.setLong(4, delta.correctCount());
+		});
+	}
+
+	public void addArticleStats(List<ArticleStatsDelta> deltas) {
+		String sql = databaseDialect.isMySql() ? MYSQL_ARTICLE_UPSERT_SQL : MERGE_ARTICLE_UPSERT_SQL;
+		jdbcTemplate.batchUpdate(sql, deltas, deltas.size(), (ps, delta) -> {
+			ps.setLong(1, delta.articleId());
+			ps.setLong(2, delta.completionCount());
+		});
+	}
+
+	public List<QuestionStatsDelta> findQuestionStatsByArticleId(Long articleId) {
+		return jdbcTemplate.query(
+			"SELECT question_id, article_id, attempt_count, correct_count FROM quiz_question_stats WHERE article_id = ?",
+			(rs, rowNum) -> new QuestionStatsDelta(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)),
+			articleId);
+	}
+
+	public long findCompletionCount(Long articleId) {
+		List<Long> completionCounts = jdbcTemplate.queryForList(
+			"SELECT completion_count FROM article_quiz_stats WHERE article_id = ?", Long.class, articleId);
+		return completionCounts.isEmpty() ? 0 : completionCounts.get(0);
+	}
+}
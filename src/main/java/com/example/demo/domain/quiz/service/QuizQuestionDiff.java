@@ -0,0 +1,94 @@
+package com.example.demo.domain.quiz.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import com.example.demo.domain.quiz.dto.request.QuizQuestionUploadDto;
+import com.example.demo.domain.quiz.entity.QuizQuestion;
+import com.example.demo.domain.quiz.util.QuizOptionCodec;
+
+/**
+ * 기존 퀴즈 문제와 업로드된 문제의 차이
+ * updatedQuestions의 id는 매칭된 기존 문제의 id로 채워집니다.
+ */
+record QuizQuestionDiff(
+	List<QuizQuestionUploadDto> insertedQuestions,
+	List<QuizQuestionUploadDto> updatedQuestions,
+	List<Long> deletedIds,
+	int unchangedCount
+) {
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	static QuizQuestionDiff of(List<QuizQuestion> existingQuestions, List<QuizQuestionUploadDto> uploadedQuestions) {
+		Map<Long, QuizQuestion> unmatchedById = new LinkedHashMap<>();
+		Map<String, Deque<QuizQuestion>> unmatchedByQuestion = new HashMap<>();
+		for (QuizQuestion existing : existingQuestions) {
+			unmatchedById.put(existing.getId(), existing);
+			unmatchedByQuestion.computeIfAbsent(normalize(existing.getQuestion()), key -> new ArrayDeque<>())
+				.add(existing);
+		}
+
+		List<QuizQuestionUploadDto> insertedQuestions = new ArrayList<>();
+		List<QuizQuestionUploadDto> updatedQuestions = new ArrayList<>();
+		int unchangedCount = 0;
+		for (QuizQuestionUploadDto uploaded : uploadedQuestions) {
+			QuizQuestion matched = findMatch(uploaded, unmatchedById, unmatchedByQuestion);
+			if (matched == null) {
+				insertedQuestions.add(uploaded);
+			} else if (isUnchanged(matched, uploaded)) {
+				unchangedCount++;
+			} else {
+				updatedQuestions.add(uploaded.withId(matched.getId()));
+			}
+		}
+
+		return new QuizQuestionDiff(insertedQuestions, updatedQuestions, new ArrayList<>(unmatchedById.keySet()),
+			unchangedCount);
+	}
+
+	// id 매칭을 우선하고, 없으면 정규화한 문제 문장으로 매칭합니다.
+	private static QuizQuestion findMatch(QuizQuestionUploadDto uploaded, Map<Long, QuizQuestion> unmatchedById,
+		Map<String, Deque<QuizQuestion>> unmatchedByQuestion) {
+		if (uploaded.id() != null && unmatchedById.containsKey(uploaded.id())) {
+			QuizQuestion matched = unmatchedById.remove(uploaded.id());
+			Deque<QuizQuestion> sameQuestions = unmatchedByQuestion.get(normalize(matched.getQuestion()));
+			sameQuestions.remove(matched);
+			return matched;
+		}
+		Deque<QuizQuestion> candidates = unmatchedByQuestion.get(normalize(uploaded.question()));
+		if (candidates == null || candidates.isEmpty()) {
+			return null;
+		}
+		QuizQuestion matched = candidates.poll();
+		unmatchedById.remove(matched.getId());
+		return matched;
+	}
+
+	private static boolean isUnchanged(QuizQuestion existing, QuizQuestionUploadDto uploaded) {
+		if (existing.isMultipleChoice() != uploaded.isMultipleChoice()
+			|| !Objects.equals(existing.getQuestion(), uploaded.question())) {
+			return false;
+		}
+		if (uploaded.isMultipleChoice()) {
+			return Objects.equals(existing.getCorrectOptionIndex(), uploaded.correctOptionIndex())
+				&& Objects.equals(existing.getEncodedOptions(), QuizOptionCodec.encode(uploaded.options()));
+		}
+		return Objects.equals(existing.getCorrectAnswer(), uploaded.correctAnswer());
+	}
+
+	private static String normalize(String question) {
+		if (question == null) {
+			return "";
+		}
+		return WHITESPACE.matcher(question.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+	}
+}
@@ -1,45 +1,72 @@
 package com.example.demo.domain.quiz.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.common.cache.CacheStats;
 import com.example.demo.common.error.ErrorCode;
 import com.example.demo.common.error.exception.AppException;
-import com.example.demo.domain.article.entity.Article;
 import com.example.demo.domain.article.repository.ArticleRepository;
-import com.example.demo.domain.quiz.dto.request.QuizAnswerDto;
+import com.example.demo.domain.quiz.attempt.QuizAttemptRecord;
+import com.example.demo.domain.quiz.attempt.QuizAttemptRecorder;
+import com.example.demo.domain.quiz.attempt.QuizAttemptStats;
+import com.example.demo.domain.quiz.cache.QuizSetCache;
+import com.example.demo.domain.quiz.cache.QuizSetSnapshot;
+import com.example.demo.domain.quiz.dto.request.QuizBatchGradingRequest;
 import com.example.demo.domain.quiz.dto.request.QuizBulkUploadRequest;
 import com.example.demo.domain.quiz.dto.request.QuizGradingRequest;
 import com.example.demo.domain.quiz.dto.request.QuizQuestionUploadDto;
 import com.example.demo.domain.quiz.dto.request.QuizUploadRequest;
+import com.example.demo.domain.quiz.dto.response.QuizBatchGradingResponse;
 import com.example.demo.domain.quiz.dto.response.QuizGradingResponse;
-import com.example.demo.domain.quiz.dto.response.QuizQuestionDto;
+import com.example.demo.domain.quiz.dto.response.QuizQuestionStatDto;
 import com.example.demo.domain.quiz.dto.response.QuizResponseDto;
-import com.example.demo.domain.quiz.dto.response.QuizResultDto;
-import com.example.demo.domain.quiz.entity.QuizQuestion;
+import com.example.demo.domain.quiz.dto.response.QuizStatsResponse;
+import com.example.demo.domain.quiz.dto.response.QuizUploadResult;
+import com.example.demo.domain.quiz.event.QuizChangedEvent;
+import com.example.demo.domain.quiz.grading.GradedSubmission;
+import com.example.demo.domain.quiz.grading.QuestionTally;
+import com.example.demo.domain.quiz.grading.QuizGrader;
+import com.example.demo.domain.quiz.repository.QuizQuestionJdbcRepository;
 import com.example.demo.domain.quiz.repository.QuizQuestionRepository;
+import com.example.demo.domain.quiz.stats.QuizStatsAggregator;
 
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class QuizService {
 	
+	private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+	// 정답 키 스냅샷은 객관식 정답 위치를 byte로 보관합니다.
+	public static final int MAX_OPTION_COUNT = 10;
+	
 	private final QuizQuestionRepository quizQuestionRepository;
+	private final QuizQuestionJdbcRepository quizQuestionJdbcRepository;
 	private final ArticleRepository articleRepository;
+	private final QuizSetCache quizSetCache;
+	private final QuizAttemptRecorder quizAttemptRecorder;
+	private final QuizStatsAggregator quizStatsAggregator;
+	private final ApplicationEventPublisher eventPublisher;
 	
 	/**
 	 * 여러 기사의 퀴즈 문제들을 한 번에 업로드합니다.
+	 * 기사 확인, 기존 문제 삭제, 새 문제 INSERT를 각각 집합 단위 쿼리로 처리합니다.
 	 */
 	@Transactional
 	public void bulkUploadQuiz(QuizBulkUploadRequest request) {
-		// 모든 기사의 퀴즈를 순차적으로 업로드
-		request.quizzes().forEach(this::uploadQuiz);
+		replaceQuizzes(request.quizzes());
 	}
 	
 	/**
@@ -47,88 +74,195 @@ public class QuizService {
 	 */
 	@Transactional
 	public void uploadQuiz(QuizUploadRequest request) {
-		// Article 존재 여부 확인
-		Article article = articleRepository.findById(request.articleId())
-			.orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND_EXCEPTION));
-		
-		// 기존 퀴즈 문제들 삭제 (중복 방지)
-		List<QuizQuestion> existingQuestions = quizQuestionRepository.findByArticleId(request.articleId());
-		if (!existingQuestions.isEmpty()) {
-			quizQuestionRepository.deleteAll(existingQuestions);
+		replaceQuizzes(List.of(request));
+	}
+	
+	/**
+	 * 퀴즈가 없는 기사에만 퀴즈를 저장합니다. (AI 일괄 생성용)
+	 * 생성하는 동안 기사가 삭제되었거나 다른 경로로 퀴즈가 저장된 경우에는 덮어쓰지 않습니다.
+	 *
+	 * @return 저장했으면 true, 건너뛰었으면 false
+	 */
+	@Transactional
+	public boolean uploadQuizIfAbsent(QuizUploadRequest request) {
+		validateQuestions(request.questions());
+		Long articleId = request.articleId();
+		if (articleRepository.findAllByIdInForUpdate(List.of(articleId)).isEmpty()
+			|| quizQuestionRepository.existsByArticleId(articleId)) {
+			return false;
 		}
-		
-		// 새로운 퀴즈 문제들 저장
-		List<QuizQuestion> quizQuestions = request.questions().stream()
-			.map(dto -> QuizQuestion.of(article, dto.question(), dto.correctAnswer()))
-			.collect(Collectors.toList());
-		
-		quizQuestionRepository.saveAll(quizQuestions);
+		quizQuestionJdbcRepository.batchInsert(List.of(request));
+		eventPublisher.publishEvent(QuizChangedEvent.of(List.of(articleId)));
+		return true;
 	}
 	
 	/**
-	 * 특정 기사의 퀴즈 문제들을 조회합니다.
+	 * 기존 문제와 비교하여 필요한 INSERT/UPDATE/DELETE만 수행합니다.
+	 * 문제는 전달된 id, 없으면 정규화한 문제 문장으로 매칭하며, 변경 없는 문제는 id가 유지됩니다.
 	 */
-	public QuizResponseDto getQuizByArticleId(Long articleId) {
-		List<QuizQuestion> quizQuestions = quizQuestionRepository.findByArticleId(articleId);
-		
-		if (quizQuestions.isEmpty()) {
+	@Transactional
+	public QuizUploadResult diffUploadQuiz(QuizUploadRequest request) {
+		Long articleId = request.articleId();
+		validateQuestions(request.questions());
+		if (articleRepository.findAllByIdInForUpdate(List.of(articleId)).isEmpty()) {
 			throw new AppException(ErrorCode.NOT_FOUND_EXCEPTION);
 		}
+
+		QuizQuestionDiff diff = QuizQuestionDiff.of(quizQuestionRepository.findByArticleId(articleId),
+			request.questions());
+
+		if (!diff.deletedIds().isEmpty()) {
+			quizQuestionRepository.deleteAllByIdInBatch(diff.deletedIds());
+		}
+		if (!diff.updatedQuestions().isEmpty()) {
+			quizQuestionJdbcRepository.batchUpdate(diff.updatedQuestions());
+		}
+		if (!diff.insertedQuestions().isEmpty()) {
+			quizQuestionJdbcRepository.batchInsert(List.of(new QuizUploadRequest(articleId, diff.insertedQuestions())));
+		}
+		eventPublisher.publishEvent(QuizChangedEvent.of(List.of(articleId)));
+
+		return QuizUploadResult.of(articleId, diff.insertedQuestions().size(), diff.updatedQuestions().size(),
+			diff.deletedIds().size(), diff.unchangedCount());
+	}
+	
+	/**
+	 * 특정 기사의 퀴즈 문제들을 조회합니다.
+	 */
+	public QuizResponseDto getQuizByArticleId(Long articleId) {
+		QuizSetSnapshot quizSet = getExistingQuizSet(articleId);
 		
-		List<QuizQuestionDto> questionDtos = quizQuestions.stream()
-			.map(QuizQuestionDto::from)
-			.collect(Collectors.toList());
-		
-		return QuizResponseDto.of(articleId, questionDtos);
+		return QuizResponseDto.of(articleId, quizSet.toQuestionDtos());
 	}
 	
 	/**
 	 * 퀴즈 답안을 채점합니다.
 	 */
 	public QuizGradingResponse gradeQuiz(QuizGradingRequest request) {
-		List<QuizQuestion> quizQuestions = quizQuestionRepository.findByArticleId(request.articleId());
-		
-		if (quizQuestions.isEmpty()) {
-			throw new AppException(ErrorCode.NOT_FOUND_EXCEPTION);
-		}
-		
-		// 퀴즈 문제 ID와 정답 매핑
-		Map<Long, Boolean> correctAnswers = quizQuestions.stream()
-			.collect(Collectors.toMap(
-				QuizQuestion::getId,
-				QuizQuestion::getCorrectAnswer
-			));
+		QuizSetSnapshot answerKey = getExistingQuizSet(request.articleId());
 		
 		// 사용자 답안 채점
-		List<QuizResultDto> results = request.answers().stream()
-			.map(answer -> gradeAnswer(answer, correctAnswers))
-			.collect(Collectors.toList());
+		GradedSubmission gradedSubmission = QuizGrader.grade(answerKey, request.answers());
+		quizStatsAggregator.record(request.articleId(), gradedSubmission);
 		
-		return QuizGradingResponse.of(request.articleId(), results);
+		return QuizGradingResponse.of(request.articleId(), gradedSubmission);
+	}
+	
+	/**
+	 * 퀴즈를 채점하고 사용자의 채점 이력을 비동기로 기록합니다.
+	 */
+	public QuizGradingResponse submitQuiz(Long userId, QuizGradingRequest request) {
+		QuizSetSnapshot answerKey = getExistingQuizSet(request.articleId());
+		GradedSubmission gradedSubmission = QuizGrader.grade(answerKey, request.answers());
+		quizStatsAggregator.record(request.articleId(), gradedSubmission);
+
+		quizAttemptRecorder.record(new QuizAttemptRecord(userId, request.articleId(), gradedSubmission.answerCount(),
+			gradedSubmission.correctCount(), answerKey.size(), LocalDateTime.now()));
+		return QuizGradingResponse.of(request.articleId(), gradedSubmission);
+	}
+	
+	/**
+	 * 여러 제출(여러 기사 가능)을 한 번에 채점합니다.
+	 * 기사별 정답 키는 한 번만 불러오고, 제출별 결과와 문제별 정답 집계를 함께 반환합니다.
+	 */
+	public QuizBatchGradingResponse gradeQuizBatch(QuizBatchGradingRequest request) {
+		Set<Long> articleIds = request.submissions().stream()
+			.map(QuizGradingRequest::articleId)
+			.collect(Collectors.toCollection(LinkedHashSet::new));
+		Map<Long, QuizSetSnapshot> answerKeys = quizSetCache.getQuizSets(articleIds);
+
+		Map<Long, QuestionTally> talliesByArticleId = new LinkedHashMap<>();
+		List<QuizGradingResponse> results = new ArrayList<>(request.submissions().size());
+		for (QuizGradingRequest submission : request.submissions()) {
+			QuizSetSnapshot answerKey = answerKeys.get(submission.articleId());
+			if (answerKey == null || answerKey.isEmpty()) {
+				throw new AppException(ErrorCode.NOT_FOUND_EXCEPTION);
+			}
+			GradedSubmission gradedSubmission = QuizGrader.grade(answerKey, submission.answers());
+			quizStatsAggregator.record(submission.articleId(), gradedSubmission);
+			talliesByArticleId.computeIfAbsent(submission.articleId(), articleId -> new QuestionTally(articleId, answerKey))
+				.add(gradedSubmission);
+			results.add(QuizGradingResponse.of(submission.articleId(), gradedSubmission));
+		}
+
+		List<QuizQuestionStatDto> questionStats = new ArrayList<>();
+		talliesByArticleId.values().forEach(tally -> tally.addTo(questionStats));
+		return QuizBatchGradingResponse.of(results, questionStats);
 	}
 	
 	/**
 	 * 특정 기사의 퀴즈 실제 정답 데이터를 반환합니다.
 	 */
 	public QuizGradingResponse getQuizAnswers(Long articleId) {
-		List<QuizQuestion> quizQuestions = quizQuestionRepository.findByArticleId(articleId);
-		if (quizQuestions.isEmpty()) {
+		QuizSetSnapshot quizSet = getExistingQuizSet(articleId);
+		return QuizGradingResponse.of(articleId, quizSet.toAnswerResults());
+	}
+	
+	/**
+	 * 기사의 퀴즈 완료 수와 문제별 정답률을 통계 테이블 누적 값과 메모리 증가분을 합쳐 조회합니다.
+	 */
+	public QuizStatsResponse getQuizStats(Long articleId) {
+		return quizStatsAggregator.getStats(articleId, getExistingQuizSet(articleId));
+	}
+	
+	public CacheStats getQuizSetCacheStats() {
+		return quizSetCache.getStats();
+	}
+	
+	public QuizAttemptStats getQuizAttemptStats() {
+		return quizAttemptRecorder.getStats();
+	}
+	
+	private QuizSetSnapshot getExistingQuizSet(Long articleId) {
+		QuizSetSnapshot quizSet = quizSetCache.getQuizSet(articleId);
+		if (quizSet.isEmpty()) {
 			throw new AppException(ErrorCode.NOT_FOUND_EXCEPTION);
 		}
-		List<QuizResultDto> results = quizQuestions.stream()
-			.map(q -> QuizResultDto.of(q.getId(), q.getCorrectAnswer()))
-			.collect(Collectors.toList());
-		return QuizGradingResponse.of(articleId, results);
+		return quizSet;
 	}
 	
-	private QuizResultDto gradeAnswer(QuizAnswerDto answer, Map<Long, Boolean> correctAnswers) {
-		Boolean correctAnswer = correctAnswers.get(answer.id());
-		
-		if (correctAnswer == null) {
-			throw new AppException(ErrorCode.BAD_REQUEST_EXCEPTION);
+	private void replaceQuizzes(List<QuizUploadRequest> requests) {
+		// 같은 기사가 여러 번 포함되면 마지막 요청을 사용
+		Map<Long, QuizUploadRequest> requestsByArticleId = new LinkedHashMap<>();
+		requests.forEach(request -> {
+			validateQuestions(request.questions());
+			requestsByArticleId.put(request.articleId(), request);
+		});
+
+		List<Long> articleIds = new ArrayList<>(requestsByArticleId.keySet());
+		for (int from = 0; from < articleIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+			List<Long> chunk = articleIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, articleIds.size()));
+			// Article 존재 여부 확인 (uploadQuizIfAbsent와 겹치지 않도록 행 잠금)
+			if (articleRepository.findAllByIdInForUpdate(chunk).size() != chunk.size()) {
+				throw new AppException(ErrorCode.NOT_FOUND_EXCEPTION);
+			}
+			// 기존 퀴즈 문제들 삭제 (중복 방지)
+			quizQuestionRepository.deleteAllByArticleIdIn(chunk);
+		}
+
+		// 새로운 퀴즈 문제들 저장
+		quizQuestionJdbcRepository.batchInsert(new ArrayList<>(requestsByArticleId.values()));
+		eventPublisher.publishEvent(QuizChangedEvent.of(articleIds));
+	}
+
+	// OX는 참/거짓 정답, 객관식은 보기 목록과 그 안의 정답 위치가 있어야 합니다.
+	private void validateQuestions(List<QuizQuestionUploadDto> questions) {
+		for (QuizQuestionUploadDto question : questions) {
+			if (question.question() == null) {
+				throw new AppException(ErrorCode.BAD_REQUEST_EXCEPTION);
+			}
+			if (!question.isMultipleChoice()) {
+				if (question.correctAnswer() == null) {
+					throw new AppException(ErrorCode.BAD_REQUEST_EXCEPTION);
+				}
+				continue;
+			}
+			List<String> options = question.options();
+			Integer correctOptionIndex = question.correctOptionIndex();
+			if (options == null || options.size() < 2 || options.size() > MAX_OPTION_COUNT
+				|| correctOptionIndex == null || correctOptionIndex < 0 || correctOptionIndex >= options.size()) {
+				throw new AppException(ErrorCode.BAD_REQUEST_EXCEPTION);
+			}
 		}
-		
-		boolean isCorrect = correctAnswer.equals(answer.answer());
-		return QuizResultDto.of(answer.id(), isCorrect);
 	}
-} 
\ No newline at end of file
+}
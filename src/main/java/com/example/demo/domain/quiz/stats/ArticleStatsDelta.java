@@ -0,0 +1,7 @@
+package com.example.demo.domain.quiz.stats;
+
+public record ArticleStatsDelta(
+	Long articleId,
+	long completionCount
+) {
+}
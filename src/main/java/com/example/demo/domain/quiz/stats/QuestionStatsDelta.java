@@ -0,0 +1,9 @@
+package com.example.demo.domain.quiz.stats;
+
+public record QuestionStatsDelta(
+	Long questionId,
+	Long articleId,
+	long attemptCount,
+	long correctCount
+) {
+}
@@ -0,0 +1,305 @@
+package com.example.demo.domain.quiz.stats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.common.property.QuizProperties;
+import com.example.demo.domain.quiz.cache.QuizSetSnapshot;
+import com.example.demo.domain.quiz.dto.response.QuestionStatsDto;
+import com.example.demo.domain.quiz.dto.response.QuizStatsResponse;
+import com.example.demo.domain.quiz.grading.GradedSubmission;
+import com.example.demo.domain.quiz.repository.QuizStatsJdbcRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채점 시점에 문제별/기사별 통계 증가분을 메모리 카운터(LongAdder)에만 누적하고,
+ * 주기적으로 증가분을 통계 테이블에 합산합니다. 채점 경로에서는 DB를 읽지 않습니다.
+ * 통계 조회는 테이블의 누적 값에 아직 합산되지 않은 증가분을 더해 응답합니다.
+ * statsMaxArticles를 넘으면 합산할 증가분이 없는 오래된 기사부터 메모리에서 제거합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizStatsAggregator {
+
+	private final QuizStatsJdbcRepository quizStatsJdbcRepository;
+	private final QuizProperties quizProperties;
+	private final PlatformTransactionManager transactionManager;
+
+	private final Map<Long, ArticleCounter> articleCounters = new ConcurrentHashMap<>();
+
+	// 카운터 갱신(read lock)과 기사 카운터 제거(write lock)가 겹치면 제거된 카운터에 쌓인 증가분이 유실되므로 분리
+	private final ReadWriteLock evictionLock = new ReentrantReadWriteLock();
+
+	// 증가분을 꺼낸 뒤 커밋하기 전(write lock)에 조회(read lock)하면 꺼낸 증가분이 테이블과 메모리 어디에도 보이지 않으므로 분리
+	private final ReadWriteLock foldLock = new ReentrantReadWriteLock();
+
+	private TransactionTemplate foldTransaction;
+	private ScheduledExecutorService foldExecutor;
+
+	@PostConstruct
+	void start() {
+		foldTransaction = new TransactionTemplate(transactionManager);
+		foldExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "quiz-stats-folder");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = quizProperties.getStatsFoldInterval();
+		foldExecutor.scheduleWithFixedDelay(this::fold, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 채점 결과를 메모리 카운터에만 더합니다. 통계 누락이 채점 실패로 이어지지 않도록 예외를 던지지 않습니다.
+	 */
+	public void record(Long articleId, GradedSubmission gradedSubmission) {
+		evictionLock.readLock().lock();
+		try {
+			ArticleCounter articleCounter = getArticleCounter(articleId);
+			articleCounter.completions().increment();
+
+			QuizSetSnapshot answerKey = gradedSubmission.answerKey();
+			int[] questionIndexes = gradedSubmission.questionIndexes();
+			for (int position = 0; position < questionIndexes.length; position++) {
+				articleCounter.getQuestionCounter(answerKey.questionIdAt(questionIndexes[position]))
+					.record(gradedSubmission.isCorrect(position));
+			}
+		} catch (RuntimeException e) {
+			log.error("Failed to record quiz stats: articleId={}", articleId, e);
+		} finally {
+			evictionLock.readLock().unlock();
+		}
+	}
+
+	public QuizStatsResponse getStats(Long articleId, QuizSetSnapshot quizSet) {
+		long completionCount;
+		Map<Long, QuestionStatsDelta> persistedStats;
+		ArticleCounter articleCounter;
+		foldLock.readLock().lock();
+		try {
+			completionCount = quizStatsJdbcRepository.findCompletionCount(articleId);
+			persistedStats = quizStatsJdbcRepository.findQuestionStatsByArticleId(articleId).stream()
+				.collect(Collectors.toMap(QuestionStatsDelta::questionId, Function.identity()));
+			articleCounter = articleCounters.get(articleId);
+			if (articleCounter != null) {
+				completionCount += articleCounter.completions().pending();
+			}
+		} finally {
+			foldLock.readLock().unlock();
+		}
+
+		List<QuestionStatsDto> questionStats = new ArrayList<>(quizSet.size());
+		for (int index = 0; index < quizSet.size(); index++) {
+			long questionId = quizSet.questionIdAt(index);
+			QuestionStatsDelta persisted = persistedStats.get(questionId);
+			long attemptCount = persisted == null ? 0 : persisted.attemptCount();
+			long correctCount = persisted == null ? 0 : persisted.correctCount();
+			QuestionCounter counter = articleCounter == null ? null : articleCounter.questionCounters().get(questionId);
+			if (counter != null) {
+				long pending = counter.pending();
+				attemptCount += QuestionCounter.attempts(pending);
+				correctCount += QuestionCounter.corrects(pending);
+			}
+			questionStats.add(QuestionStatsDto.of(questionId, attemptCount, correctCount));
+		}
+		return QuizStatsResponse.of(articleId, completionCount, questionStats);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		foldExecutor.shutdown();
+		fold();
+	}
+
+	/**
+	 * 마지막 합산 이후 증가분만 한 트랜잭션으로 테이블에 더합니다.
+	 * 실패하면 두 UPSERT가 함께 롤백되므로 증가분을 모두 되돌려 다음 주기에 다시 시도합니다.
+	 */
+	private synchronized void fold() {
+		List<QuestionStatsDelta> questionDeltas = new ArrayList<>();
+		List<ArticleStatsDelta> articleDeltas = new ArrayList<>();
+		foldLock.writeLock().lock();
+		try {
+			articleCounters.forEach((articleId, articleCounter) -> {
+				long completionCount = articleCounter.completions().drainPending();
+				if (completionCount > 0) {
+					articleDeltas.add(new ArticleStatsDelta(articleId, completionCount));
+				}
+				articleCounter.questionCounters().forEach((questionId, counter) -> {
+					long pending = counter.drainPending();
+					if (pending != 0) {
+						questionDeltas.add(new QuestionStatsDelta(questionId, articleId,
+							QuestionCounter.attempts(pending), QuestionCounter.corrects(pending)));
+					}
+				});
+			});
+
+			if (!questionDeltas.isEmpty() || !articleDeltas.isEmpty()) {
+				try {
+					foldTransaction.executeWithoutResult(status -> {
+						if (!questionDeltas.isEmpty()) {
+							quizStatsJdbcRepository.addQuestionStats(questionDeltas);
+						}
+						if (!articleDeltas.isEmpty()) {
+							quizStatsJdbcRepository.addArticleStats(articleDeltas);
+						}
+					});
+				} catch (RuntimeException e) {
+					log.error("Failed to fold quiz stats: questions={}, articles={}", questionDeltas.size(),
+						articleDeltas.size(), e);
+					restorePending(questionDeltas, articleDeltas);
+				}
+			}
+		} finally {
+			foldLock.writeLock().unlock();
+		}
+		evictIdleArticles();
+	}
+
+	// 기사 카운터는 fold 안의 evictIdleArticles에서만 제거되므로 되돌릴 카운터는 항상 남아 있습니다.
+	private void restorePending(List<QuestionStatsDelta> questionDeltas, List<ArticleStatsDelta> articleDeltas) {
+		articleDeltas.forEach(delta -> articleCounters.get(delta.articleId()).completions()
+			.restorePending(delta.completionCount()));
+		questionDeltas.forEach(delta -> articleCounters.get(delta.articleId()).getQuestionCounter(delta.questionId())
+			.restorePending(delta.attemptCount(), delta.correctCount()));
+	}
+
+	// 카운터에는 합산 전 증가분만 있으므로, 모두 합산된 기사는 제거해도 다시 0부터 누적하면 됩니다.
+	private void evictIdleArticles() {
+		int overflow = articleCounters.size() - quizProperties.getStatsMaxArticles();
+		if (overflow <= 0) {
+			return;
+		}
+		evictionLock.writeLock().lock();
+		try {
+			articleCounters.entrySet().stream()
+				.filter(entry -> !entry.getValue().hasPending())
+				.sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessMillis()))
+				.limit(overflow)
+				.map(Map.Entry::getKey)
+				.toList()
+				.forEach(articleCounters::remove);
+		} finally {
+			evictionLock.writeLock().unlock();
+		}
+	}
+
+	private ArticleCounter getArticleCounter(Long articleId) {
+		ArticleCounter articleCounter = articleCounters.computeIfAbsent(articleId, key -> new ArticleCounter());
+		articleCounter.touch();
+		return articleCounter;
+	}
+
+	private static final class ArticleCounter {
+
+		private final StatsCounter completions = new StatsCounter();
+		private final Map<Long, QuestionCounter> questionCounters = new ConcurrentHashMap<>();
+		private volatile long lastAccessMillis = System.currentTimeMillis();
+
+		StatsCounter completions() {
+			return completions;
+		}
+
+		Map<Long, QuestionCounter> questionCounters() {
+			return questionCounters;
+		}
+
+		QuestionCounter getQuestionCounter(Long questionId) {
+			return questionCounters.computeIfAbsent(questionId, key -> new QuestionCounter());
+		}
+
+		long lastAccessMillis() {
+			return lastAccessMillis;
+		}
+
+		void touch() {
+			lastAccessMillis = System.currentTimeMillis();
+		}
+
+		boolean hasPending() {
+			if (completions.pending() > 0) {
+				return true;
+			}
+			return questionCounters.values().stream().anyMatch(counter -> counter.pending() != 0);
+		}
+	}
+
+	/**
+	 * 문제별 시도 수(상위 32비트)와 정답 수(하위 32비트)를 LongAdder 하나에 함께 더합니다.
+	 * 한 번의 add로 둘을 같이 올리고 한 번의 sumThenReset으로 같이 꺼내므로,
+	 * 합산 시점에 시도 없이 정답만 반영되는 일이 없습니다. (합산 주기 사이 정답 수가 2^32 미만이라는 전제)
+	 */
+	private static final class QuestionCounter {
+
+		private static final int ATTEMPT_SHIFT = 32;
+		private static final long CORRECT_MASK = (1L << ATTEMPT_SHIFT) - 1;
+		private static final long ATTEMPT = 1L << ATTEMPT_SHIFT;
+
+		private final LongAdder pending = new LongAdder();
+
+		void record(boolean correct) {
+			pending.add(correct ? ATTEMPT + 1 : ATTEMPT);
+		}
+
+		long pending() {
+			return pending.sum();
+		}
+
+		long drainPending() {
+			return pending.sumThenReset();
+		}
+
+		void restorePending(long attemptCount, long correctCount) {
+			pending.add((attemptCount << ATTEMPT_SHIFT) + correctCount);
+		}
+
+		static long attempts(long packed) {
+			return packed >>> ATTEMPT_SHIFT;
+		}
+
+		static long corrects(long packed) {
+			return packed & CORRECT_MASK;
+		}
+	}
+
+	// 아직 테이블에 반영되지 않은 증가분
+	private static final class StatsCounter {
+
+		private final LongAdder pending = new LongAdder();
+
+		void increment() {
+			pending.increment();
+		}
+
+		long pending() {
+			return pending.sum();
+		}
+
+		long drainPending() {
+			return pending.sumThenReset();
+		}
+
+		void restorePending(long amount) {
+			pending.add(amount);
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.example.demo.domain.quiz.util;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 객관식 보기 목록을 컬럼 하나에 저장하기 위한 인코더
+ * 보기 사이를 unit separator(U+001F)로 이어 붙이며, 보기 안의 구분자 문자는 제거합니다.
+ */
+public class QuizOptionCodec {
+
+	private static final char OPTION_SEPARATOR = '\u001F';
+
+	private static final Pattern SEPARATOR_PATTERN = Pattern.compile(Pattern.quote(String.valueOf(OPTION_SEPARATOR)));
+
+	public static String encode(final List<String> options) {
+		if (options == null || options.isEmpty()) {
+			return null;
+		}
+		StringBuilder encoded = new StringBuilder();
+		for (int index = 0; index < options.size(); index++) {
+			if (index > 0) {
+				encoded.append(OPTION_SEPARATOR);
+			}
+			String option = options.get(index);
+			if (option != null) {
+				encoded.append(option.replace(String.valueOf(OPTION_SEPARATOR), ""));
+			}
+		}
+		return encoded.toString();
+	}
+
+	public static List<String> decode(final String encoded) {
+		if (encoded == null) {
+			return List.of();
+		}
+		return List.of(SEPARATOR_PATTERN.split(encoded, -1));
+	}
+}
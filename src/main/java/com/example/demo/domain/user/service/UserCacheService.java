@@ -0,0 +1,56 @@
+package com.example.demo.domain.user.service;
+
+import org.springframework.stereotype.Service;
+
+import com.example.demo.common.cache.CacheStats;
+import com.example.demo.common.cache.LruCache;
+import com.example.demo.common.error.ErrorCode;
+import com.example.demo.common.error.exception.AppException;
+import com.example.demo.common.property.TokenProperty;
+import com.example.demo.domain.user.entity.UserEntity;
+import com.example.demo.domain.user.repository.UserEntityRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * UserEntity 전체가 필요한 경우를 위한 크기 제한 사용자 캐시
+ * 분리(detached)된 엔티티를 보관하므로 jwt.user-cache-ttl이 지나면 다시 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserCacheService {
+
+	private final UserEntityRepository userEntityRepository;
+
+	private final TokenProperty tokenProperty;
+
+	private LruCache<Long, UserEntity> userCache;
+
+	@PostConstruct
+	void initCache() {
+		userCache = new LruCache<>(tokenProperty.getUserCacheSize(), tokenProperty.getUserCacheTtl());
+	}
+
+	/**
+	 * 캐시에 없으면 DB에서 조회한 뒤 캐시에 저장합니다.
+	 *
+	 * @throws AppException 사용자가 없을 경우 USER_NOT_FOUND_EXCEPTION
+	 */
+	public UserEntity getUser(final Long userId) {
+		return userCache.get(userId).orElseGet(() -> {
+			UserEntity user = userEntityRepository.findById(userId)
+				.orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND_EXCEPTION));
+			userCache.put(userId, user);
+			return user;
+		});
+	}
+
+	public void evictUser(final Long userId) {
+		userCache.remove(userId);
+	}
+
+	public CacheStats getCacheStats() {
+		return userCache.stats();
+	}
+}
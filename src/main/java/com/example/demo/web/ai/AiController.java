@@ -1,16 +1,39 @@
 package com.example.demo.web.ai;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.example.demo.common.cache.CacheStats;
+import com.example.demo.common.concurrent.SingleFlightStats;
+import com.example.demo.common.property.AIProperties;
 import com.example.demo.common.response.AppResponse;
+import com.example.demo.domain.ai.batch.QuizBatchGenerator;
+import com.example.demo.domain.ai.batch.QuizBatchProgress;
 import com.example.demo.domain.ai.service.OpenAIService;
+import com.example.demo.domain.ai.service.QuizGenerationJobService;
+import com.example.demo.domain.ai.service.QuizGenerationPipeline;
+import com.example.demo.domain.ai.usage.TokenUsageStats;
 import com.example.demo.web.ai.dto.request.QuizRequest;
+import com.example.demo.web.ai.dto.response.QuizGenerationJobResponse;
 import com.example.demo.web.ai.dto.response.QuizListResponse;
 
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import reactor.core.Disposable;
 
 @RestController
 @RequestMapping("/api/ai")
@@ -18,11 +41,102 @@ import lombok.RequiredArgsConstructor;
 public class AiController {
 
 	private final OpenAIService openAIService;
+	private final QuizGenerationPipeline quizGenerationPipeline;
+	private final QuizGenerationJobService quizGenerationJobService;
+	private final QuizBatchGenerator quizBatchGenerator;
+	private final AIProperties aiProperties;
 
 	@PostMapping("/quiz")
 	public ResponseEntity<AppResponse<QuizListResponse>> generateQuiz(QuizRequest quizRequest) {
-		QuizListResponse response = openAIService.generateQuiz(quizRequest.title(), quizRequest.content());
+		QuizListResponse response = quizGenerationPipeline.generateQuiz(quizRequest.title(), quizRequest.content());
 		return ResponseEntity.ok(AppResponse.created(response));
 	}
 
+	@PostMapping(value = "/quiz/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "퀴즈 스트리밍 생성", description = "생성되는 퀴즈를 완성되는 순서대로 SSE로 전송합니다. (quiz 이벤트, 마지막에 done 이벤트)")
+	public SseEmitter streamQuiz(@RequestBody QuizRequest quizRequest) {
+		SseEmitter emitter = new SseEmitter(aiProperties.getStreamTimeout());
+		Disposable subscription = openAIService.streamQuiz(quizRequest.title(), quizRequest.content())
+			.subscribe(
+				quiz -> sendEvent(emitter, "quiz", quiz),
+				emitter::completeWithError,
+				() -> {
+					sendEvent(emitter, "done", "");
+					emitter.complete();
+				});
+		// 클라이언트 연결이 끊기거나 시간이 초과되면 모델 스트림도 중단합니다.
+		emitter.onCompletion(subscription::dispose);
+		emitter.onTimeout(subscription::dispose);
+		emitter.onError(error -> subscription.dispose());
+		return emitter;
+	}
+
+	@GetMapping("/quiz/cache/stats")
+	@Operation(summary = "퀴즈 생성 캐시 통계", description = "AI 퀴즈 생성 결과 캐시의 적중률과 크기를 조회합니다.")
+	public ResponseEntity<AppResponse<CacheStats>> getGenerationCacheStats() {
+		return ResponseEntity.ok(AppResponse.ok(openAIService.getGenerationCacheStats()));
+	}
+
+	@GetMapping("/quiz/flight/stats")
+	@Operation(summary = "퀴즈 생성 중복 호출 통계", description = "실행 중인 생성 호출 수와 실행 중인 호출에 합쳐진 요청 수를 조회합니다.")
+	public ResponseEntity<AppResponse<SingleFlightStats>> getGenerationFlightStats() {
+		return ResponseEntity.ok(AppResponse.ok(openAIService.getGenerationFlightStats()));
+	}
+
+	@GetMapping("/usage")
+	@Operation(summary = "AI 토큰 사용량", description = "모델 호출 수, 입력/출력 토큰 사용량 합계와 보정/버린 퀴즈 항목 수를 조회합니다.")
+	public ResponseEntity<AppResponse<TokenUsageStats>> getTokenUsageStats() {
+		return ResponseEntity.ok(AppResponse.ok(openAIService.getTokenUsageStats()));
+	}
+
+	@PostMapping("/quiz/jobs")
+	@Operation(summary = "퀴즈 생성 작업 등록", description = "퀴즈 생성을 비동기 작업으로 등록하고 작업 id를 즉시 반환합니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "202", description = "작업 등록 완료"),
+		@ApiResponse(responseCode = "429", description = "대기 중인 작업이 너무 많음[A-001]")
+	})
+	public ResponseEntity<AppResponse<QuizGenerationJobResponse>> submitQuizJob(@RequestBody QuizRequest quizRequest) {
+		QuizGenerationJobResponse response = quizGenerationJobService.submitJob(quizRequest.title(),
+			quizRequest.content());
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(AppResponse.of(HttpStatus.ACCEPTED, response));
+	}
+
+	@GetMapping("/quiz/jobs/{jobId}")
+	@Operation(summary = "퀴즈 생성 작업 조회", description = "작업 상태를 조회합니다. waitSeconds를 주면 작업이 끝날 때까지 최대 그 시간만큼 기다립니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "작업 상태 조회 성공"),
+		@ApiResponse(responseCode = "404", description = "해당 작업을 찾을 수 없음")
+	})
+	public CompletableFuture<ResponseEntity<AppResponse<QuizGenerationJobResponse>>> getQuizJob(
+		@PathVariable String jobId,
+		@RequestParam(defaultValue = "0") long waitSeconds) {
+		return quizGenerationJobService.waitForJob(jobId, waitSeconds)
+			.thenApply(response -> ResponseEntity.ok(AppResponse.ok(response)));
+	}
+
+	@PostMapping("/quiz/batch")
+	@Operation(summary = "퀴즈 일괄 생성 시작", description = "퀴즈가 없는 기사들의 퀴즈를 백그라운드에서 생성해 저장합니다. limit으로 처리할 기사 수를 제한할 수 있습니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "202", description = "일괄 생성 시작"),
+		@ApiResponse(responseCode = "409", description = "이미 진행 중[A-002]")
+	})
+	public ResponseEntity<AppResponse<QuizBatchProgress>> startQuizBatch(
+		@RequestParam(required = false) Integer limit) {
+		QuizBatchProgress progress = quizBatchGenerator.start(limit);
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(AppResponse.of(HttpStatus.ACCEPTED, progress));
+	}
+
+	@GetMapping("/quiz/batch")
+	@Operation(summary = "퀴즈 일괄 생성 진행 상황", description = "현재(또는 마지막) 일괄 생성의 처리 건수를 조회합니다.")
+	public ResponseEntity<AppResponse<QuizBatchProgress>> getQuizBatchProgress() {
+		return ResponseEntity.ok(AppResponse.ok(quizBatchGenerator.getProgress()));
+	}
+
+	private void sendEvent(SseEmitter emitter, String name, Object data) {
+		try {
+			emitter.send(SseEmitter.event().name(name).data(data));
+		} catch (IOException e) {
+			emitter.completeWithError(e);
+		}
+	}
 }
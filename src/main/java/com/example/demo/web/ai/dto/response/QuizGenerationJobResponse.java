@@ -0,0 +1,21 @@
+package com.example.demo.web.ai.dto.response;
+
+import com.example.demo.common.error.ErrorCode;
+import com.example.demo.domain.ai.entity.QuizGenerationStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record QuizGenerationJobResponse(
+	String jobId,
+	QuizGenerationStatus status,
+	QuizListResponse result,
+	String errorCode,
+	String errorMessage
+) {
+	public static QuizGenerationJobResponse of(String jobId, QuizGenerationStatus status, QuizListResponse result,
+		ErrorCode errorCode) {
+		return new QuizGenerationJobResponse(jobId, status, result,
+			errorCode == null ? null : errorCode.getCode(),
+			errorCode == null ? null : errorCode.getMessage());
+	}
+}
@@ -1,19 +1,28 @@
 package com.example.demo.web.article;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.demo.common.response.AppResponse;
+import com.example.demo.common.response.SliceResponse;
+import com.example.demo.domain.article.dto.request.ArticleUploadMode;
 import com.example.demo.domain.article.dto.request.ArticleUploadRequest;
 import com.example.demo.domain.article.dto.response.ArticleDto;
+import com.example.demo.domain.article.dto.response.ArticleUploadResponse;
 import com.example.demo.domain.article.dto.response.ArticleWithQuizResponseDto;
+import com.example.demo.domain.article.service.ArticleExportService;
 import com.example.demo.domain.article.service.ArticleService;
 
 import lombok.RequiredArgsConstructor;
@@ -24,23 +33,59 @@ import lombok.RequiredArgsConstructor;
 public class ArticleController {
 
 	private final ArticleService articleService;
+	private final ArticleExportService articleExportService;
 
+	// 기존 클라이언트 호환을 위해 새로 저장된 articleId 목록만 반환
 	@PostMapping("/upload")
 	public ResponseEntity<AppResponse<List<String>>> uploadArticles(
-		@RequestBody List<ArticleUploadRequest> requests) {
+		@RequestBody List<ArticleUploadRequest> requests,
+		@RequestParam(defaultValue = "SKIP_EXISTING") ArticleUploadMode mode) {
 		
-		List<String> savedArticleIds = articleService.uploadArticles(requests);
+		ArticleUploadResponse response = articleService.uploadArticles(requests, mode);
 		
-		return ResponseEntity.ok(AppResponse.ok(savedArticleIds));
+		return ResponseEntity.ok(AppResponse.ok(response.insertedArticleIds()));
+	}
+
+	// 저장/갱신/건너뜀 건수까지 포함한 업로드 결과
+	@PostMapping("/upload/summary")
+	public ResponseEntity<AppResponse<ArticleUploadResponse>> uploadArticlesWithSummary(
+		@RequestBody List<ArticleUploadRequest> requests,
+		@RequestParam(defaultValue = "SKIP_EXISTING") ArticleUploadMode mode) {
+		
+		ArticleUploadResponse response = articleService.uploadArticles(requests, mode);
+		
+		return ResponseEntity.ok(AppResponse.ok(response));
 	}
 
 	@GetMapping
-	public ResponseEntity<AppResponse<List<ArticleDto>>> getAllArticles() {
-		List<ArticleDto> articles = articleService.getAllArticles();
+	public ResponseEntity<AppResponse<List<ArticleDto>>> getAllArticles(
+		@RequestParam(defaultValue = "0") int page,
+		@RequestParam(defaultValue = "20") int size) {
+		List<ArticleDto> articles = articleService.getAllArticles(page, size);
 		
 		return ResponseEntity.ok(AppResponse.ok(articles));
 	}
 
+	@GetMapping("/cursor")
+	public ResponseEntity<AppResponse<SliceResponse<ArticleDto>>> getArticlesByCursor(
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(required = false) String categoryId,
+		@RequestParam(defaultValue = "20") int size) {
+		SliceResponse<ArticleDto> articles = articleService.getArticlesByCursor(cursor, categoryId, size);
+
+		return ResponseEntity.ok(AppResponse.ok(articles));
+	}
+
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportArticles(
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince) {
+		StreamingResponseBody body = outputStream -> articleExportService.exportArticles(updatedSince, outputStream);
+
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(body);
+	}
+
 	@GetMapping("/{articleId}/with-quiz")
 	public ResponseEntity<AppResponse<ArticleWithQuizResponseDto>> getArticleWithQuiz(@PathVariable String articleId) {
 		ArticleWithQuizResponseDto response = articleService.getArticleWithQuizByArticleId(articleId);
@@ -1,11 +1,16 @@
 package com.example.demo.web.auth;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.common.cache.CacheStats;
+import com.example.demo.common.error.ErrorCode;
+import com.example.demo.common.error.exception.AppException;
 import com.example.demo.common.response.AppResponse;
 import com.example.demo.domain.auth.service.AuthService;
 import com.example.demo.domain.auth.util.CookieUtil;
@@ -48,4 +53,27 @@ public class AuthController {
 
 		return ResponseEntity.ok(AppResponse.ok(loginResponse));
 	}
+
+	@PostMapping("/logout")
+	@Operation(
+		summary = "로그아웃 API",
+		description = "액세스 토큰을 만료 시각까지 폐기하고 리프레시 토큰을 삭제합니다.",
+		responses = {
+			@ApiResponse(responseCode = "401", description = "토큰 형식이 잘못되었습니다.[C-012]")
+		}
+	)
+	public ResponseEntity<AppResponse<Void>> logout(@RequestHeader(AUTH_HEADER) String authorizationHeader) {
+		if (!authorizationHeader.startsWith(BEARER_TOKEN)) {
+			throw new AppException(ErrorCode.MALFORMED_TOKEN_EXCEPTION);
+		}
+		authService.logout(authorizationHeader.substring(BEARER_TOKEN.length()));
+
+		return ResponseEntity.ok(AppResponse.noContent());
+	}
+
+	@GetMapping("/token-cache/stats")
+	@Operation(summary = "검증 토큰 캐시 통계", description = "서명 검증 결과 캐시의 적중/미스/제거 횟수와 크기를 조회합니다.")
+	public ResponseEntity<AppResponse<CacheStats>> getVerifiedTokenCacheStats() {
+		return ResponseEntity.ok(AppResponse.ok(authService.getVerifiedTokenCacheStats()));
+	}
 }
@@ -8,12 +8,19 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.common.cache.CacheStats;
 import com.example.demo.common.response.AppResponse;
+import com.example.demo.domain.auth.util.AuthenticationUtil;
+import com.example.demo.domain.quiz.attempt.QuizAttemptStats;
+import com.example.demo.domain.quiz.dto.request.QuizBatchGradingRequest;
 import com.example.demo.domain.quiz.dto.request.QuizBulkUploadRequest;
 import com.example.demo.domain.quiz.dto.request.QuizGradingRequest;
 import com.example.demo.domain.quiz.dto.request.QuizUploadRequest;
+import com.example.demo.domain.quiz.dto.response.QuizBatchGradingResponse;
 import com.example.demo.domain.quiz.dto.response.QuizGradingResponse;
 import com.example.demo.domain.quiz.dto.response.QuizResponseDto;
+import com.example.demo.domain.quiz.dto.response.QuizStatsResponse;
+import com.example.demo.domain.quiz.dto.response.QuizUploadResult;
 import com.example.demo.domain.quiz.service.QuizService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -57,6 +64,19 @@ public class QuizController {
 		return ResponseEntity.ok(AppResponse.created("퀴즈가 성공적으로 업로드되었습니다."));
 	}
 	
+	@PostMapping("/upload/diff")
+	@Operation(summary = "퀴즈 변경분 업로드", description = "기존 퀴즈와 비교하여 바뀐 문제만 추가/수정/삭제합니다. 변경 없는 문제의 id는 유지됩니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "퀴즈 변경분 반영 성공"),
+		@ApiResponse(responseCode = "404", description = "해당 기사를 찾을 수 없음")
+	})
+	public ResponseEntity<AppResponse<QuizUploadResult>> diffUploadQuiz(
+		@RequestBody QuizUploadRequest request) {
+		
+		QuizUploadResult response = quizService.diffUploadQuiz(request);
+		return ResponseEntity.ok(AppResponse.ok(response));
+	}
+	
 	@GetMapping("/article/{articleId}")
 	@Operation(summary = "기사 퀴즈 조회", description = "특정 기사의 퀴즈 문제들을 조회합니다.")
 	@ApiResponses(value = {
@@ -71,6 +91,20 @@ public class QuizController {
 		return ResponseEntity.ok(AppResponse.ok(response));
 	}
 	
+	@GetMapping("/article/{articleId}/stats")
+	@Operation(summary = "기사 퀴즈 통계", description = "기사의 퀴즈 완료 수와 문제별 정답률을 조회합니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "통계 조회 성공"),
+		@ApiResponse(responseCode = "404", description = "해당 기사의 퀴즈를 찾을 수 없음")
+	})
+	public ResponseEntity<AppResponse<QuizStatsResponse>> getQuizStats(
+		@Parameter(description = "기사 ID", required = true)
+		@PathVariable Long articleId) {
+		
+		QuizStatsResponse response = quizService.getQuizStats(articleId);
+		return ResponseEntity.ok(AppResponse.ok(response));
+	}
+	
 	@PostMapping("/grade")
 	@Operation(summary = "퀴즈 정답 조회", description = "특정 기사 퀴즈의 실제 정답 데이터를 내려줍니다.")
 	@ApiResponses(value = {
@@ -83,4 +117,44 @@ public class QuizController {
 		QuizGradingResponse response = quizService.getQuizAnswers(request.articleId());
 		return ResponseEntity.ok(AppResponse.ok(response));
 	}
+	
+	@PostMapping("/submit")
+	@Operation(summary = "퀴즈 제출", description = "로그인한 사용자의 답안을 채점하고 채점 이력을 기록합니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "채점 완료"),
+		@ApiResponse(responseCode = "401", description = "인증되지 않은 사용자[C-008]"),
+		@ApiResponse(responseCode = "404", description = "해당 기사의 퀴즈를 찾을 수 없음")
+	})
+	public ResponseEntity<AppResponse<QuizGradingResponse>> submitQuiz(
+		@RequestBody QuizGradingRequest request) {
+		
+		QuizGradingResponse response = quizService.submitQuiz(AuthenticationUtil.getCurrentUserId(), request);
+		return ResponseEntity.ok(AppResponse.ok(response));
+	}
+	
+	@PostMapping("/grade/batch")
+	@Operation(summary = "퀴즈 일괄 채점", description = "여러 학생의 제출을 한 번에 채점하고 문제별 정답 집계를 함께 반환합니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "일괄 채점 완료"),
+		@ApiResponse(responseCode = "400", description = "퀴즈에 없는 문제 id가 포함됨"),
+		@ApiResponse(responseCode = "404", description = "해당 기사의 퀴즈를 찾을 수 없음")
+	})
+	public ResponseEntity<AppResponse<QuizBatchGradingResponse>> gradeQuizBatch(
+		@RequestBody QuizBatchGradingRequest request) {
+		
+		QuizBatchGradingResponse response = quizService.gradeQuizBatch(request);
+		return ResponseEntity.ok(AppResponse.ok(response));
+	}
+	
+	@GetMapping("/attempts/stats")
+	@Operation(summary = "채점 이력 기록 통계", description = "채점 이력 write-behind 큐 길이와 기록 지연 시간을 조회합니다.")
+	public ResponseEntity<AppResponse<QuizAttemptStats>> getQuizAttemptStats() {
+		return ResponseEntity.ok(AppResponse.ok(quizService.getQuizAttemptStats()));
+	}
+	
+	@GetMapping("/cache/stats")
+	@Operation(summary = "퀴즈 캐시 통계", description = "기사별 퀴즈 세트 캐시의 적중률과 크기를 조회합니다.")
+	public ResponseEntity<AppResponse<CacheStats>> getQuizSetCacheStats() {
+		return ResponseEntity.ok(AppResponse.ok(quizService.getQuizSetCacheStats()));
+	}
 } 
\ No newline at end of file
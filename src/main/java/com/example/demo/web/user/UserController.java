@@ -2,13 +2,16 @@ package com.example.demo.web.user;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.common.cache.CacheStats;
 import com.example.demo.common.response.AppResponse;
 import com.example.demo.domain.user.dto.response.UserCreateResponse;
+import com.example.demo.domain.user.service.UserCacheService;
 import com.example.demo.domain.user.service.UserService;
 import com.example.demo.web.user.dto.request.UserCreateRequest;
 
@@ -23,6 +26,7 @@ import lombok.RequiredArgsConstructor;
 public class UserController {
 
 	private final UserService userService;
+	private final UserCacheService userCacheService;
 
 	@PostMapping
 	@Operation(
@@ -40,4 +44,10 @@ public class UserController {
 				request.password()
 			)));
 	}
+
+	@GetMapping("/cache/stats")
+	@Operation(summary = "사용자 캐시 통계", description = "인증 주체용 사용자 캐시의 적중률과 크기를 조회합니다.")
+	public ResponseEntity<AppResponse<CacheStats>> getUserCacheStats() {
+		return ResponseEntity.ok(AppResponse.ok(userCacheService.getCacheStats()));
+	}
 }
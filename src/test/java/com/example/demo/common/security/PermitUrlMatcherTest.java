@@ -0,0 +1,121 @@
+package com.example.demo.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+
+import com.example.demo.common.property.SecurityProperties;
+
+class PermitUrlMatcherTest {
+
+	private static final List<String> PATTERNS = List.of(
+		"/api/auth/login",
+		"/swagger-ui/**",
+		"/api/articles/*/detail");
+
+	private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+	private PermitUrlMatcher permitUrlMatcher;
+
+	@BeforeEach
+	void setUp() {
+		SecurityProperties securityProperties = new SecurityProperties();
+		securityProperties.setPermitUrls(PATTERNS.stream().map(pattern -> "GET:" + pattern).toArray(String[]::new));
+		permitUrlMatcher = new PermitUrlMatcher(securityProperties);
+		permitUrlMatcher.compilePermitUrls();
+	}
+
+	@Test
+	void matchesSameAsAntPathMatcherForNonNormalizedPaths() {
+		List<String> uris = List.of(
+			"/api/auth/login",
+			"/api/auth//login",
+			"//api/auth/login",
+			"/api/auth/login/",
+			"/api/auth/login//",
+			"/api/auth/logout",
+			"/swagger-ui",
+			"/swagger-ui/",
+			"/swagger-ui//index.html",
+			"//swagger-ui/index.html",
+			"/swagger-uix",
+			"/api/articles/1/detail",
+			"/api/articles//1/detail",
+			"/api/articles/1/detail/");
+
+		for (String uri : uris) {
+			boolean expected = PATTERNS.stream().anyMatch(pattern -> antPathMatcher.match(pattern, uri));
+			assertThat(permitUrlMatcher.matches(request("GET", uri)))
+				.as(uri)
+				.isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void doesNotMatchOtherMethods() {
+		assertThat(permitUrlMatcher.matches(request("POST", "/api/auth/login"))).isFalse();
+	}
+
+	@Test
+	void trieMatchesSameAsAntPathMatcherForEveryPatternShape() {
+		List<String> patterns = List.of(
+			"/api/quiz/*",
+			"/api/quiz/*/stats",
+			"/api/users/{id}/profile",
+			"/static/*.js",
+			"/docs/**/index.html",
+			"/*",
+			"/api/articles",
+			"/api/articles/**");
+		List<String> uris = List.of(
+			"/",
+			"/favicon.ico",
+			"/api",
+			"/api/",
+			"/api/quiz",
+			"/api/quiz/",
+			"/api/quiz/1",
+			"/api/quiz/1/",
+			"/api/quiz/1/stats",
+			"/api/quiz/1/stats/",
+			"/api/quiz/1/other",
+			"/api/users/5/profile",
+			"/api/users/5/settings",
+			"/static/app.js",
+			"/static/app.css",
+			"/static/lib/app.js",
+			"/docs/index.html",
+			"/docs/a/b/index.html",
+			"/docs/a/b/other.html",
+			"/api/articles",
+			"/api/articles/",
+			"/api/articles/1/detail",
+			"/api/articlesx");
+
+		PathPatternTrie trie = new PathPatternTrie(antPathMatcher);
+		patterns.forEach(trie::add);
+		for (String uri : uris) {
+			boolean expected = patterns.stream().anyMatch(pattern -> antPathMatcher.match(pattern, uri));
+			assertThat(trie.matches(uri))
+				.as(uri)
+				.isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void collapsesRepeatedSeparators() {
+		assertThat(PermitUrlMatcher.normalize("//a///b/")).isEqualTo("/a/b/");
+		assertThat(PermitUrlMatcher.normalize("/a/b")).isEqualTo("/a/b");
+	}
+
+	private MockHttpServletRequest request(String method, String uri) {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+		request.setRequestURI(uri);
+		return request;
+	}
+}
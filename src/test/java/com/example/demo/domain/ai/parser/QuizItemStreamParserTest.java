@@ -0,0 +1,117 @@
+package com.example.demo.domain.ai.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.web.ai.dto.response.QuizResponse;
+
+class QuizItemStreamParserTest {
+
+	private static final String OBJECT_ROOT = "{\"qna\": ["
+		+ "{\"question\": \"q1 {not a brace}\", \"quizType\": \"OX\", \"options\": [], \"answer\": \"O\"},"
+		+ "{\"question\": \"q2 \\\"quoted\\\" ]\", \"quizType\": \"OX\", \"options\": [], \"answer\": \"X\"}"
+		+ "]}";
+
+	private final QuizOutputParser quizOutputParser = new QuizOutputParser();
+
+	@Test
+	void emitsEachItemAsSoonAsItCloses() {
+		QuizItemStreamParser parser = new QuizItemStreamParser(quizOutputParser);
+		int firstItemEnd = OBJECT_ROOT.indexOf("},") + 1;
+
+		List<QuizResponse> beforeFirstItemEnds = feedByChar(parser, OBJECT_ROOT.substring(0, firstItemEnd - 1));
+		List<QuizResponse> firstItem = parser.feed(OBJECT_ROOT.substring(firstItemEnd - 1, firstItemEnd));
+		List<QuizResponse> rest = feedByChar(parser, OBJECT_ROOT.substring(firstItemEnd));
+
+		assertThat(beforeFirstItemEnds).isEmpty();
+		assertThat(firstItem).extracting(QuizResponse::question).containsExactly("q1 {not a brace}");
+		assertThat(rest).extracting(QuizResponse::question).containsExactly("q2 \"quoted\" ]");
+	}
+
+	@Test
+	void acceptsBareArrayRoot() {
+		QuizItemStreamParser parser = new QuizItemStreamParser(quizOutputParser);
+
+		List<QuizResponse> quizzes = feedByChar(parser, """
+			[
+			  {"question": "q1", "quizType": "OX", "options": [], "answer": "O"},
+			  {"question": "q2", "quizType": "OX", "options": [], "answer": "X"}
+			]
+			""");
+
+		assertThat(quizzes).extracting(QuizResponse::question).containsExactly("q1", "q2");
+	}
+
+	@Test
+	void skipsProseWithBracketsBeforeFencedJson() {
+		QuizItemStreamParser parser = new QuizItemStreamParser(quizOutputParser);
+
+		List<QuizResponse> quizzes = feedByChar(parser, "Here are [2] quizzes {as requested}:\n```json\n"
+			+ OBJECT_ROOT + "\n```");
+
+		assertThat(quizzes).extracting(QuizResponse::question).containsExactly("q1 {not a brace}", "q2 \"quoted\" ]");
+	}
+
+	@Test
+	void ignoresContentAfterRootCloses() {
+		QuizItemStreamParser parser = new QuizItemStreamParser(quizOutputParser);
+
+		List<QuizResponse> quizzes = feedByChar(parser, OBJECT_ROOT
+			+ "\nBonus: {\"qna\": [{\"question\": \"q3\", \"quizType\": \"OX\", \"answer\": \"O\"}]}");
+
+		assertThat(quizzes).hasSize(2);
+	}
+
+	@Test
+	void findsRootSplitAcrossChunks() {
+		QuizItemStreamParser parser = new QuizItemStreamParser(quizOutputParser);
+
+		List<QuizResponse> quizzes = new ArrayList<>();
+		quizzes.addAll(parser.feed("Sure! {"));
+		quizzes.addAll(parser.feed("  "));
+		quizzes.addAll(parser.feed("qn"));
+		quizzes.addAll(parser.feed("a: [{question: 'q1', quizType: 'OX', answer: 'O'}]}"));
+
+		assertThat(quizzes).extracting(QuizResponse::question).containsExactly("q1");
+	}
+
+	@Test
+	void acceptsSameLenientSyntaxAsOutputParser() {
+		QuizItemStreamParser parser = new QuizItemStreamParser(quizOutputParser);
+
+		List<QuizResponse> quizzes = feedByChar(parser, """
+			{
+			  // 주석 속 괄호 { [ 는 무시합니다
+			  qna: [
+			    {'question': 'say "hi" { ]', quizType: 'OX', answer: 'O',},
+			    /* 두 번째 항목 } */
+			    {question: 'q2', quizType: 'OX', answer: 'X'},
+			  ],
+			}
+			""");
+
+		assertThat(quizzes).extracting(QuizResponse::question).containsExactly("say \"hi\" { ]", "q2");
+	}
+
+	@Test
+	void dropsUnrepairableItemWithoutStoppingStream() {
+		QuizItemStreamParser parser = new QuizItemStreamParser(quizOutputParser);
+
+		List<QuizResponse> quizzes = feedByChar(parser, "[{\"question\": \"q1\", \"quizType\": \"OX\", \"answer\": \"maybe\"},"
+			+ "{\"question\": \"q2\", \"quizType\": \"OX\", \"answer\": \"O\"}]");
+
+		assertThat(quizzes).extracting(QuizResponse::question).containsExactly("q2");
+	}
+
+	private List<QuizResponse> feedByChar(QuizItemStreamParser parser, String output) {
+		List<QuizResponse> quizzes = new ArrayList<>();
+		for (int i = 0; i < output.length(); i++) {
+			quizzes.addAll(parser.feed(String.valueOf(output.charAt(i))));
+		}
+		return quizzes;
+	}
+}
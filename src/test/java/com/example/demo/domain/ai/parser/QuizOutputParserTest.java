@@ -0,0 +1,135 @@
+package com.example.demo.domain.ai.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.common.error.ErrorCode;
+import com.example.demo.common.error.exception.AppException;
+import com.example.demo.web.ai.dto.response.QuizListResponse;
+import com.example.demo.web.ai.dto.response.QuizResponse;
+import com.example.demo.web.ai.dto.response.QuizType;
+
+class QuizOutputParserTest {
+
+	private static final String OPTIONS = "[\"서울\", \"부산\", \"대구\", \"광주\"]";
+
+	private final QuizOutputParser parser = new QuizOutputParser();
+
+	@Test
+	void stripsCodeFenceAndSurroundingProse() {
+		QuizListResponse response = parser.parse("""
+			Here are the quizzes {as requested}:
+			```json
+			{"qna": [{"question": "q1", "quizType": "OX", "options": [], "answer": "O"}]}
+			```
+			Let me know if you need more.
+			""");
+
+		assertThat(response.qna()).containsExactly(new QuizResponse("q1", QuizType.OX, List.of(), "O"));
+	}
+
+	@Test
+	void acceptsBareArrayRoot() {
+		QuizListResponse response = parser.parse("""
+			[{"question": "q1", "quizType": "OX", "options": [], "answer": "X"},
+			 {"question": "q2", "quizType": "OX", "options": [], "answer": "O"}]
+			""");
+
+		assertThat(response.qna()).extracting(QuizResponse::question).containsExactly("q1", "q2");
+	}
+
+	@Test
+	void mapsOptionLabelsAndNumbersToOptionText() {
+		Map<String, String> expectedAnswers = Map.of(
+			"B", "부산",
+			"(c)", "대구",
+			"D.", "광주",
+			"1", "서울",
+			"3) 대구", "대구",
+			"  부산 ", "부산");
+
+		expectedAnswers.forEach((answer, expected) -> {
+			QuizListResponse response = parser.parse("{\"qna\": [{\"question\": \"q\", \"quizType\": \"MULTIPLE_CHOICE\", "
+				+ "\"options\": " + OPTIONS + ", \"answer\": \"" + answer + "\"}]}");
+
+			assertThat(response.qna()).as(answer).singleElement()
+				.extracting(QuizResponse::answer)
+				.isEqualTo(expected);
+		});
+	}
+
+	@Test
+	void normalizesOxSynonyms() {
+		Map<String, String> expectedAnswers = Map.of(
+			"TRUE", "O",
+			"yes.", "O",
+			"참", "O",
+			"false", "X",
+			"거짓", "X",
+			"×", "X");
+
+		expectedAnswers.forEach((answer, expected) -> {
+			QuizListResponse response = parser.parse(
+				"[{\"question\": \"q\", \"quizType\": \"True/False\", \"answer\": \"" + answer + "\"}]");
+
+			assertThat(response.qna()).as(answer).singleElement()
+				.satisfies(quiz -> {
+					assertThat(quiz.quizType()).isEqualTo(QuizType.OX);
+					assertThat(quiz.answer()).isEqualTo(expected);
+				});
+		});
+	}
+
+	@Test
+	void infersQuizTypeWhenMissing() {
+		QuizListResponse response = parser.parse("[{\"question\": \"q1\", \"options\": " + OPTIONS
+			+ ", \"answer\": \"대구\"}, {\"question\": \"q2\", \"answer\": \"O\"}]");
+
+		assertThat(response.qna()).extracting(QuizResponse::quizType)
+			.containsExactly(QuizType.MULTIPLE_CHOICE, QuizType.OX);
+	}
+
+	@Test
+	void dropsOnlyItemsThatCannotBeRepaired() {
+		long droppedBefore = parser.getDroppedCount();
+
+		QuizListResponse response = parser.parse("{\"qna\": ["
+			+ "{\"question\": \"q1\", \"quizType\": \"MULTIPLE_CHOICE\", \"options\": " + OPTIONS
+			+ ", \"answer\": \"인천\"},"
+			+ "{\"question\": \"q2\", \"quizType\": \"OX\", \"answer\": \"maybe\"},"
+			+ "{\"quizType\": \"OX\", \"answer\": \"O\"},"
+			+ "{\"question\": \"q4\", \"quizType\": \"OX\", \"answer\": \"O\"}]}");
+
+		assertThat(response.qna()).extracting(QuizResponse::question).containsExactly("q4");
+		assertThat(parser.getDroppedCount() - droppedBefore).isEqualTo(3);
+	}
+
+	@Test
+	void acceptsLenientJsonSyntax() {
+		QuizListResponse response = parser.parse("""
+			{
+			  // 모델이 붙인 주석
+			  qna: [
+			    {'question': 'say "hi" { }', quizType: 'OX', answer: 'O',},
+			  ],
+			}
+			""");
+
+		assertThat(response.qna()).singleElement()
+			.extracting(QuizResponse::question)
+			.isEqualTo("say \"hi\" { }");
+	}
+
+	@Test
+	void rejectsUnreadableOutput() {
+		assertThatThrownBy(() -> parser.parse("I could not generate a quiz for this article."))
+			.isInstanceOf(AppException.class)
+			.extracting(e -> ((AppException)e).getErrorCode())
+			.isEqualTo(ErrorCode.AI_INVALID_RESPONSE_EXCEPTION);
+	}
+}
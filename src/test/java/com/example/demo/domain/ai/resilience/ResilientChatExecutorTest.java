@@ -0,0 +1,262 @@
+package com.example.demo.domain.ai.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.retry.TransientAiException;
+
+import com.example.demo.common.error.ErrorCode;
+import com.example.demo.common.error.exception.AppException;
+import com.example.demo.common.property.AIProperties;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+class ResilientChatExecutorTest {
+
+	private static final long OPEN_MILLIS = 100;
+
+	private final StubChatModel chatModel = new StubChatModel();
+	private final ChatClient chatClient = ChatClient.create(chatModel);
+	private final AIProperties aiProperties = new AIProperties();
+
+	private ResilientChatExecutor executor;
+
+	@BeforeEach
+	void setUp() {
+		aiProperties.setMaxConcurrentCalls(1);
+		aiProperties.setBulkheadWaitMillis(50);
+		aiProperties.setRateLimitWaitMillis(0);
+		aiProperties.setCallTimeoutMillis(1000);
+		aiProperties.setMaxRetries(0);
+		aiProperties.setRetryBaseDelayMillis(1);
+		aiProperties.setRetryMaxDelayMillis(5);
+		aiProperties.setCircuitFailureThreshold(2);
+		aiProperties.setCircuitOpenMillis(OPEN_MILLIS);
+		initExecutor();
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void opensAfterThresholdThenClosesOnSuccessfulProbe() throws InterruptedException {
+		chatModel.enqueue(StubChatModel::transientFailure);
+		chatModel.enqueue(StubChatModel::transientFailure);
+		assertErrorCode(this::call, ErrorCode.AI_UNAVAILABLE_EXCEPTION);
+		assertErrorCode(this::call, ErrorCode.AI_UNAVAILABLE_EXCEPTION);
+
+		// 열린 동안에는 모델을 호출하지 않습니다.
+		assertErrorCode(this::call, ErrorCode.AI_UNAVAILABLE_EXCEPTION);
+		assertThat(chatModel.callCount()).isEqualTo(2);
+
+		Thread.sleep(OPEN_MILLIS + 20);
+		chatModel.enqueue(() -> StubChatModel.response("probe"));
+		assertThat(call()).isEqualTo("probe");
+
+		chatModel.enqueue(() -> StubChatModel.response("closed"));
+		assertThat(call()).isEqualTo("closed");
+		assertThat(chatModel.callCount()).isEqualTo(4);
+	}
+
+	@Test
+	void reopensWhenProbeFails() throws InterruptedException {
+		chatModel.enqueue(StubChatModel::transientFailure);
+		chatModel.enqueue(StubChatModel::transientFailure);
+		assertErrorCode(this::call, ErrorCode.AI_UNAVAILABLE_EXCEPTION);
+		assertErrorCode(this::call, ErrorCode.AI_UNAVAILABLE_EXCEPTION);
+
+		Thread.sleep(OPEN_MILLIS + 20);
+		chatModel.enqueue(StubChatModel::transientFailure);
+		assertErrorCode(this::call, ErrorCode.AI_UNAVAILABLE_EXCEPTION);
+
+		assertErrorCode(this::call, ErrorCode.AI_UNAVAILABLE_EXCEPTION);
+		assertThat(chatModel.callCount()).isEqualTo(3);
+	}
+
+	@Test
+	void rejectsCallsBeyondBulkheadLimit() throws Exception {
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		chatModel.enqueue(() -> {
+			entered.countDown();
+			await(release);
+			return StubChatModel.response("slow");
+		});
+		CompletableFuture<String> slowCall = CompletableFuture.supplyAsync(this::call);
+		assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+		assertErrorCode(this::call, ErrorCode.AI_RATE_LIMITED_EXCEPTION);
+
+		release.countDown();
+		assertThat(slowCall.get(1, TimeUnit.SECONDS)).isEqualTo("slow");
+		assertThat(chatModel.callCount()).isEqualTo(1);
+	}
+
+	@Test
+	void retriesAfterTimeout() {
+		aiProperties.setCallTimeoutMillis(100);
+		aiProperties.setMaxRetries(1);
+		executor.shutdown();
+		initExecutor();
+
+		chatModel.enqueue(() -> {
+			await(new CountDownLatch(1));
+			return StubChatModel.response("too late");
+		});
+		chatModel.enqueue(() -> StubChatModel.response("retried"));
+
+		assertThat(call()).isEqualTo("retried");
+		assertThat(chatModel.callCount()).isEqualTo(2);
+	}
+
+	@Test
+	void keepsBulkheadPermitUntilTimedOutCallFinishes() throws Exception {
+		aiProperties.setCallTimeoutMillis(100);
+		executor.shutdown();
+		initExecutor();
+
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch finished = new CountDownLatch(1);
+		chatModel.enqueue(() -> {
+			// 인터럽트에 반응하지 않는 블로킹 HTTP 호출을 흉내냅니다.
+			boolean interrupted = false;
+			while (release.getCount() > 0) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			finished.countDown();
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+			return StubChatModel.response("too late");
+		});
+		chatModel.enqueue(() -> StubChatModel.response("next"));
+
+		assertErrorCode(this::call, ErrorCode.AI_UNAVAILABLE_EXCEPTION);
+		assertErrorCode(this::call, ErrorCode.AI_RATE_LIMITED_EXCEPTION);
+
+		release.countDown();
+		assertThat(finished.await(1, TimeUnit.SECONDS)).isTrue();
+		Thread.sleep(50);
+		assertThat(call()).isEqualTo("next");
+	}
+
+	@Test
+	void cancelledStreamProbeDoesNotLeaveCircuitHalfOpen() throws InterruptedException {
+		chatModel.enqueue(StubChatModel::transientFailure);
+		chatModel.enqueue(StubChatModel::transientFailure);
+		assertErrorCode(this::call, ErrorCode.AI_UNAVAILABLE_EXCEPTION);
+		assertErrorCode(this::call, ErrorCode.AI_UNAVAILABLE_EXCEPTION);
+		Thread.sleep(OPEN_MILLIS + 20);
+
+		chatModel.setStreamResponse(Flux.never());
+		Disposable probe = executor.executeStream(1, () -> chatClient.prompt("quiz").stream().content()).subscribe();
+		probe.dispose();
+
+		chatModel.enqueue(() -> StubChatModel.response("next probe"));
+		assertThat(call()).isEqualTo("next probe");
+	}
+
+	@Test
+	void releasesBulkheadWhenStreamSupplierThrows() {
+		Flux<String> failing = executor.executeStream(1, () -> {
+			throw new TransientAiException("connection reset");
+		});
+		assertThatThrownBy(() -> failing.collectList().block()).isInstanceOf(TransientAiException.class);
+
+		chatModel.enqueue(() -> StubChatModel.response("after failure"));
+		assertThat(call()).isEqualTo("after failure");
+	}
+
+	private void initExecutor() {
+		executor = new ResilientChatExecutor(aiProperties);
+		executor.init();
+	}
+
+	private String call() {
+		return executor.execute(1, () -> chatClient.prompt("quiz").call().content());
+	}
+
+	private static void assertErrorCode(Runnable call, ErrorCode errorCode) {
+		assertThatThrownBy(call::run)
+			.isInstanceOf(AppException.class)
+			.extracting(e -> ((AppException)e).getErrorCode())
+			.isEqualTo(errorCode);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// 호출마다 미리 넣어 둔 응답(또는 예외)을 순서대로 돌려주는 모델
+	private static class StubChatModel implements ChatModel {
+
+		private final Deque<Supplier<ChatResponse>> responses = new ConcurrentLinkedDeque<>();
+		private final AtomicInteger callCount = new AtomicInteger();
+		private volatile Flux<ChatResponse> streamResponse = Flux.empty();
+
+		void enqueue(Supplier<ChatResponse> response) {
+			responses.add(response);
+		}
+
+		void setStreamResponse(Flux<ChatResponse> streamResponse) {
+			this.streamResponse = streamResponse;
+		}
+
+		int callCount() {
+			return callCount.get();
+		}
+
+		@Override
+		public ChatResponse call(Prompt prompt) {
+			callCount.incrementAndGet();
+			Supplier<ChatResponse> response = responses.poll();
+			if (response == null) {
+				throw new IllegalStateException("No stubbed response");
+			}
+			return response.get();
+		}
+
+		@Override
+		public Flux<ChatResponse> stream(Prompt prompt) {
+			return streamResponse;
+		}
+
+		static ChatResponse response(String text) {
+			return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+		}
+
+		static ChatResponse transientFailure() {
+			throw new TransientAiException("503 - Service Unavailable");
+		}
+	}
+}
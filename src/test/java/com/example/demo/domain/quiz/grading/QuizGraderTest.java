@@ -0,0 +1,65 @@
+package com.example.demo.domain.quiz.grading;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.common.error.ErrorCode;
+import com.example.demo.common.error.exception.AppException;
+import com.example.demo.domain.quiz.cache.QuizSetSnapshot;
+import com.example.demo.domain.quiz.dto.request.QuizAnswerDto;
+import com.example.demo.domain.quiz.entity.QuizQuestion;
+import com.example.demo.domain.quiz.entity.QuizQuestionType;
+
+class QuizGraderTest {
+
+	private final QuizSetSnapshot answerKey = QuizSetSnapshot.from(List.of(
+		oxQuestion(1L, true),
+		oxQuestion(2L, false),
+		oxQuestion(3L, true)));
+
+	@Test
+	void gradesEachAnswerAgainstAnswerKey() {
+		GradedSubmission gradedSubmission = QuizGrader.grade(answerKey, List.of(
+			new QuizAnswerDto(1L, true, null),
+			new QuizAnswerDto(2L, true, null),
+			new QuizAnswerDto(3L, true, null)));
+
+		assertThat(gradedSubmission.correctCount()).isEqualTo(2);
+		assertThat(gradedSubmission.isCorrect(0)).isTrue();
+		assertThat(gradedSubmission.isCorrect(1)).isFalse();
+		assertThat(gradedSubmission.isCorrect(2)).isTrue();
+	}
+
+	@Test
+	void rejectsDuplicateQuestionIds() {
+		List<QuizAnswerDto> answers = List.of(
+			new QuizAnswerDto(1L, true, null),
+			new QuizAnswerDto(1L, true, null),
+			new QuizAnswerDto(1L, true, null),
+			new QuizAnswerDto(1L, true, null));
+
+		assertThatThrownBy(() -> QuizGrader.grade(answerKey, answers))
+			.isInstanceOf(AppException.class)
+			.extracting(e -> ((AppException)e).getErrorCode())
+			.isEqualTo(ErrorCode.BAD_REQUEST_EXCEPTION);
+	}
+
+	@Test
+	void rejectsUnknownQuestionId() {
+		assertThatThrownBy(() -> QuizGrader.grade(answerKey, List.of(new QuizAnswerDto(99L, true, null))))
+			.isInstanceOf(AppException.class);
+	}
+
+	private static QuizQuestion oxQuestion(Long id, boolean correctAnswer) {
+		return QuizQuestion.builder()
+			.id(id)
+			.quizType(QuizQuestionType.OX)
+			.question("question " + id)
+			.correctAnswer(correctAnswer)
+			.build();
+	}
+}